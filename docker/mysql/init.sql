@@ -11,7 +11,8 @@ CREATE TABLE users (
     profile_image VARCHAR(100),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    INDEX idx_provider_id (provider_id)
+    INDEX idx_provider_id (provider_id),
+    UNIQUE KEY uk_provider_provider_id (provider, provider_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 CREATE TABLE projects (
@@ -21,7 +22,6 @@ CREATE TABLE projects (
     overview TEXT,
     start_date DATE,
     end_date DATE,
-    tech_stack JSON,
     team_info JSON,
     my_role TEXT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
@@ -31,6 +31,24 @@ CREATE TABLE projects (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 
+-- 기술 스택 사전. 프로젝트는 project_tech_stack 에 이름 대신 ID 를 저장한다.
+CREATE TABLE tech_stack (
+    id INT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    UNIQUE KEY uk_tech_stack_name (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE project_tech_stack (
+    project_id BINARY(16) NOT NULL,
+    order_index INT NOT NULL,
+    tech_stack_id INT NOT NULL,
+    PRIMARY KEY (project_id, order_index),
+    FOREIGN KEY (project_id) REFERENCES projects(project_id) ON DELETE CASCADE,
+    FOREIGN KEY (tech_stack_id) REFERENCES tech_stack(id),
+    INDEX idx_tech_stack_id (tech_stack_id, project_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+
 CREATE TABLE problem_solving(
     ps_id BINARY(16) PRIMARY KEY,
     project_id BINARY(16) NOT NULL,
@@ -44,3 +62,33 @@ CREATE TABLE problem_solving(
     FOREIGN KEY (project_id) REFERENCES projects(project_id) ON DELETE CASCADE,
     INDEX idx_project_id (project_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 만료일 기준 RANGE 파티션. 일 단위 파티션은 BlacklistPartitionMaintainer 가 미리 만들고, 만료된 파티션은 DROP 한다.
+-- 파티션 키(expired_at)가 모든 unique key 에 포함돼야 하므로 PK 와 ux_token_hash 에 expired_at 을 더한다.
+CREATE TABLE blacklisted_refresh_token (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BINARY(16) NOT NULL,
+    token_hash BINARY(32) NOT NULL,
+    created_at DATETIME(6),
+    expired_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id, expired_at),
+    UNIQUE KEY ux_token_hash (token_hash, expired_at),
+    INDEX idx_user_id (user_id),
+    INDEX idx_expired_at (expired_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+PARTITION BY RANGE COLUMNS (expired_at) (
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+-- 카카오 로그아웃 outbox. 로그아웃 요청에서 기록하고 ProviderLogoutWorker 가 처리한다. 처리에 실패한 행은 status=DEAD 로 남는다.
+CREATE TABLE provider_logout_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    provider VARCHAR(20) NOT NULL,
+    provider_id VARCHAR(100) NOT NULL,
+    status VARCHAR(10) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(255),
+    created_at DATETIME(6),
+    INDEX idx_status_next_attempt_at (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,15 @@
+-- 이미 운영 중인 blacklisted_refresh_token 을 만료일 RANGE 파티션으로 전환한다.
+-- 테이블을 다시 쓰므로 트래픽이 적은 시간에 실행하고, 이후 auth.blacklist.retention=partition 으로 바꾼다.
+USE portfolio_db;
+
+ALTER TABLE blacklisted_refresh_token
+    MODIFY expired_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, expired_at),
+    DROP INDEX ux_token_hash,
+    ADD UNIQUE KEY ux_token_hash (token_hash, expired_at);
+
+ALTER TABLE blacklisted_refresh_token
+    PARTITION BY RANGE COLUMNS (expired_at) (
+        PARTITION pmax VALUES LESS THAN (MAXVALUE)
+    );
@@ -0,0 +1,38 @@
+-- 이미 운영 중인 DB 의 projects.tech_stack(JSON 문자열 배열)을 기술 스택 사전과 project_tech_stack 으로 옮긴다.
+-- 앞뒤 공백은 떼고, 대소문자만 다른 이름은 collation 에 따라 한 항목이 된다. 프로젝트 안의 순서는 유지한다.
+USE portfolio_db;
+
+CREATE TABLE tech_stack (
+    id INT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    UNIQUE KEY uk_tech_stack_name (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE project_tech_stack (
+    project_id BINARY(16) NOT NULL,
+    order_index INT NOT NULL,
+    tech_stack_id INT NOT NULL,
+    PRIMARY KEY (project_id, order_index),
+    FOREIGN KEY (project_id) REFERENCES projects(project_id) ON DELETE CASCADE,
+    FOREIGN KEY (tech_stack_id) REFERENCES tech_stack(id),
+    INDEX idx_tech_stack_id (tech_stack_id, project_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT IGNORE INTO tech_stack (name)
+SELECT TRIM(jt.name)
+FROM projects p,
+     JSON_TABLE(p.tech_stack, '$[*]' COLUMNS (ord FOR ORDINALITY, name VARCHAR(100) PATH '$')) jt
+WHERE TRIM(jt.name) <> ''
+ORDER BY p.created_at, jt.ord;
+
+INSERT INTO project_tech_stack (project_id, order_index, tech_stack_id)
+SELECT p.project_id,
+       ROW_NUMBER() OVER (PARTITION BY p.project_id ORDER BY MIN(jt.ord)) - 1,
+       t.id
+FROM projects p,
+     JSON_TABLE(p.tech_stack, '$[*]' COLUMNS (ord FOR ORDINALITY, name VARCHAR(100) PATH '$')) jt
+JOIN tech_stack t ON t.name = TRIM(jt.name)
+WHERE TRIM(jt.name) <> ''
+GROUP BY p.project_id, t.id;
+
+ALTER TABLE projects DROP COLUMN tech_stack;
@@ -0,0 +1,14 @@
+-- 이미 운영 중인 DB 에 카카오 로그아웃 outbox 테이블을 추가한다.
+USE portfolio_db;
+
+CREATE TABLE provider_logout_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    provider VARCHAR(20) NOT NULL,
+    provider_id VARCHAR(100) NOT NULL,
+    status VARCHAR(10) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(255),
+    created_at DATETIME(6),
+    INDEX idx_status_next_attempt_at (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,6 @@
+-- 이미 운영 중인 users 에 (provider, provider_id) unique 키를 추가한다.
+-- 로그인 upsert(INSERT ... ON DUPLICATE KEY UPDATE)가 이 키로 중복을 판단한다.
+USE portfolio_db;
+
+ALTER TABLE users
+    ADD UNIQUE KEY uk_provider_provider_id (provider, provider_id);
@@ -0,0 +1,74 @@
+package io.resume.make.domain.auth.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.resume.make.domain.auth.jwt.JwtTokenProvider;
+import io.resume.make.domain.auth.metrics.AuthMetrics;
+import io.resume.make.domain.user.service.UserCacheService;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 인증된 요청 한 건이 JwtAuthenticationFilter 를 통과하는 비용.
+ * cached=false 는 매번 서명 검증을 하는 경로, cached=true 는 같은 토큰이 반복되는 경로다.
+ * 회원 존재 확인은 캐시 적중으로 고정해 DB/Redis 는 측정에서 뺀다.
+ */
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secret", "benchmark-secret-key-for-jwt-token-minimum-32-characters");
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpirationTime", 3600000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenExpirationTime", 1209600000L);
+        jwtTokenProvider.init();
+
+        AccessTokenCache accessTokenCache = new AccessTokenCache();
+        ReflectionTestUtils.setField(accessTokenCache, "enabled", cached);
+        ReflectionTestUtils.setField(accessTokenCache, "maximumSize", 10000L);
+        ReflectionTestUtils.setField(accessTokenCache, "maxTtl", Duration.ofMinutes(5));
+        accessTokenCache.init();
+
+        UserCacheService userCacheService = new UserCacheService(null, null, null) {
+            @Override
+            public boolean exists(UUID userId) {
+                return true;
+            }
+        };
+
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userCacheService, accessTokenCache,
+                new AuthMetrics(new SimpleMeterRegistry()));
+
+        String token = jwtTokenProvider.generateAccessToken(UUID.randomUUID(), "bench@example.com");
+        request = new MockHttpServletRequest("GET", "/api/profile");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        filter.doFilterInternal(request, response, chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
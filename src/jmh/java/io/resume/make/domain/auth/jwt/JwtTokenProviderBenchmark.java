@@ -0,0 +1,69 @@
+package io.resume.make.domain.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 토큰 발급/검증 비용. jjwtParse 는 전용 검증기 도입 전의 범용 파싱 경로와 비교하기 위한 기준값이다.
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    static final String SECRET = "benchmark-secret-key-for-jwt-token-minimum-32-characters";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey key;
+    private UUID userId;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = newProvider();
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        userId = UUID.randomUUID();
+        accessToken = jwtTokenProvider.generateAccessToken(userId, "bench@example.com");
+    }
+
+    static JwtTokenProvider newProvider() {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secret", SECRET);
+        ReflectionTestUtils.setField(provider, "accessTokenExpirationTime", 3600000L);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpirationTime", 1209600000L);
+        provider.init();
+        return provider;
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken(userId, "bench@example.com");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtTokenProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public Claims jjwtParse() {
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(accessToken)
+                .getPayload();
+    }
+}
@@ -0,0 +1,39 @@
+package io.resume.make.domain.auth.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * refresh 토큰 블랙리스트 해시와 PKCE 검증 비용
+ */
+@State(Scope.Benchmark)
+public class AuthHashingBenchmark {
+
+    private String refreshToken;
+    private String codeVerifier;
+    private String codeChallenge;
+
+    @Setup
+    public void setUp() throws Exception {
+        refreshToken = "eyJhbGciOiJIUzM4NCJ9." + "x".repeat(260) + "." + "y".repeat(64);
+        codeVerifier = "dBjftJeZ4CVP-mB92K27uhbUJU1p1r_wW1gFWFOEjXk";
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(codeVerifier.getBytes(StandardCharsets.UTF_8));
+        codeChallenge = Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    @Benchmark
+    public byte[] hashToken() {
+        return TokenService.hashToken(refreshToken);
+    }
+
+    @Benchmark
+    public boolean verifyPkce() {
+        return AuthFacadeService.verifyPkce(codeVerifier, codeChallenge);
+    }
+}
@@ -0,0 +1,74 @@
+package io.resume.make.domain.auth.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 로그인 폭주 시 요청 스레드 모델 비교.
+ * <p>
+ * 요청 하나는 카카오 토큰 교환 + 사용자 정보 조회처럼 WebClient 응답을 block() 으로 두 번 기다린다.
+ * 한 번의 op 는 {@code concurrency} 개의 로그인을 동시에 처리하는 것이다.
+ * <ul>
+ *     <li>platform: Tomcat 기본값과 같은 200 개 플랫폼 스레드 풀</li>
+ *     <li>virtual: 요청마다 가상 스레드 (spring.threads.virtual.enabled=true)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class BlockingLoginBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final Duration KAKAO_LATENCY = Duration.ofMillis(20);
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"200", "2000"})
+    private int concurrency;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int loginStorm() throws Exception {
+        List<Future<String>> logins = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            logins.add(executor.submit(BlockingLoginBenchmark::login));
+        }
+        int completed = 0;
+        for (Future<String> login : logins) {
+            if (login.get() != null) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+    private static String login() {
+        String token = Mono.delay(KAKAO_LATENCY).map(tick -> "kakao-access-token").block();
+        return Mono.delay(KAKAO_LATENCY).map(tick -> token + ":user").block();
+    }
+}
@@ -0,0 +1,89 @@
+package io.resume.make.domain.auth.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.resume.make.domain.auth.dto.KakaoUserInfo;
+import io.resume.make.domain.auth.dto.KakaoUserProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 사용자 정보 API(/v2/user/me) 응답 디코딩 비용. 예전 방식(Map 으로 전부 읽고 cast)과 타입 지정 record 비교
+ */
+@State(Scope.Benchmark)
+public class KakaoUserInfoDecodingBenchmark {
+
+    private static final String BODY = """
+            {
+              "id": 123456789,
+              "connected_at": "2024-03-01T09:12:44Z",
+              "synched_at": "2024-03-01T09:12:44Z",
+              "properties": {
+                "nickname": "테스트유저",
+                "profile_image": "https://k.kakaocdn.net/dn/abcdEF/btsXyZ/profile_640x640.jpg",
+                "thumbnail_image": "https://k.kakaocdn.net/dn/abcdEF/btsXyZ/profile_110x110.jpg"
+              },
+              "kakao_account": {
+                "profile_nickname_needs_agreement": false,
+                "profile_image_needs_agreement": false,
+                "profile": {
+                  "nickname": "테스트유저",
+                  "thumbnail_image_url": "https://k.kakaocdn.net/dn/abcdEF/btsXyZ/profile_110x110.jpg",
+                  "profile_image_url": "https://k.kakaocdn.net/dn/abcdEF/btsXyZ/profile_640x640.jpg",
+                  "is_default_image": false,
+                  "is_default_nickname": false
+                },
+                "name_needs_agreement": true,
+                "has_email": true,
+                "email_needs_agreement": false,
+                "is_email_valid": true,
+                "is_email_verified": true,
+                "email": "test@example.com",
+                "has_age_range": true,
+                "age_range_needs_agreement": false,
+                "age_range": "20~29",
+                "has_birthday": true,
+                "birthday_needs_agreement": true,
+                "has_gender": true,
+                "gender_needs_agreement": false,
+                "gender": "female",
+                "has_phone_number": false,
+                "phone_number_needs_agreement": true
+              },
+              "for_partner": {
+                "uuid": "d4Xl7OHoz_rNsI2_t-rY0NvB9tDz2O_X4NHyxw"
+              }
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = BODY.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public KakaoUserProfile mapDecode() throws Exception {
+        Map<String, Object> userInfo = objectMapper.readValue(body, new TypeReference<Map<String, Object>>() {});
+        String providerId = String.valueOf(((Number) userInfo.get("id")).longValue());
+        Map<String, Object> account = (Map<String, Object>) userInfo.getOrDefault("kakao_account", Map.of());
+        Map<String, Object> profile = (Map<String, Object>) account.get("profile");
+        String nickname = profile != null ? (String) profile.get("nickname") : (String) account.get("nickname");
+        return new KakaoUserProfile(providerId, (String) account.get("email"), nickname);
+    }
+
+    @Benchmark
+    public KakaoUserProfile typedDecode() {
+        KakaoUserInfo userInfo = KakaoOAuthService.readUserInfo(DefaultDataBufferFactory.sharedInstance.wrap(body));
+        return new KakaoUserProfile(String.valueOf(userInfo.id()), userInfo.email(), userInfo.nickname());
+    }
+}
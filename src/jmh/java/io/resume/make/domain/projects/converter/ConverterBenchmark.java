@@ -0,0 +1,35 @@
+package io.resume.make.domain.projects.converter;
+
+import io.resume.make.domain.projects.entity.vo.TeamInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Project JSON 컬럼 변환 비용 (엔티티 로딩 시 행마다 호출된다)
+ */
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+
+    private final TeamInfoConverter teamInfoConverter = new TeamInfoConverter();
+
+    private TeamInfo teamInfo;
+    private String teamInfoJson;
+
+    @Setup
+    public void setUp() {
+        teamInfo = new TeamInfo("Backend", "4", "API 서버와 인증을 담당한 4인 팀");
+        teamInfoJson = teamInfoConverter.convertToDatabaseColumn(teamInfo);
+    }
+
+    @Benchmark
+    public TeamInfo teamInfoRead() {
+        return teamInfoConverter.convertToEntityAttribute(teamInfoJson);
+    }
+
+    @Benchmark
+    public String teamInfoWrite() {
+        return teamInfoConverter.convertToDatabaseColumn(teamInfo);
+    }
+}
@@ -0,0 +1,53 @@
+package io.resume.make.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.resume.make.domain.auth.filter.AccessTokenCache;
+import io.resume.make.domain.user.service.UserCacheService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 인증 경로 캐시 적중률 메트릭.
+ * {@code cache.requests{cache, tier, result}} 를 result 별로 나눠 적중률을 계산한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder accessTokenCacheMetrics(AccessTokenCache accessTokenCache) {
+        return registry -> {
+            FunctionCounter.builder("cache.requests", accessTokenCache, cache -> cache.stats().hitCount())
+                    .tags("cache", "access_token", "tier", "l1", "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.requests", accessTokenCache, cache -> cache.stats().missCount())
+                    .tags("cache", "access_token", "tier", "l1", "result", "miss")
+                    .register(registry);
+            Gauge.builder("cache.size", accessTokenCache, AccessTokenCache::estimatedSize)
+                    .tags("cache", "access_token", "tier", "l1")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder userCacheMetrics(UserCacheService userCacheService) {
+        return registry -> {
+            FunctionCounter.builder("cache.requests", userCacheService, cache -> cache.l1Stats().hitCount())
+                    .tags("cache", "user", "tier", "l1", "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.requests", userCacheService, cache -> cache.l1Stats().missCount())
+                    .tags("cache", "user", "tier", "l1", "result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("cache.requests", userCacheService, UserCacheService::l2Hits)
+                    .tags("cache", "user", "tier", "l2", "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.requests", userCacheService, UserCacheService::l2Misses)
+                    .tags("cache", "user", "tier", "l2", "result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("cache.requests", userCacheService, UserCacheService::l2Errors)
+                    .tags("cache", "user", "tier", "l2", "result", "error")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package io.resume.make.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class ReactorConfig {
+
+    /**
+     * non-blocking 로그인에서 JPA 저장처럼 블로킹 작업을 실행하는 스케줄러.
+     * 커넥션 풀보다 많은 스레드는 커넥션을 기다리기만 하므로 Hikari 풀 크기에 맞추고, 넘치는 작업은 큐에서 기다린다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler authDbScheduler(
+            @Value("${auth.login.db-scheduler.threads:${spring.datasource.hikari.maximum-pool-size:10}}") int threads,
+            @Value("${auth.login.db-scheduler.queue-capacity:1000}") int queueCapacity
+    ) {
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "auth-db");
+    }
+}
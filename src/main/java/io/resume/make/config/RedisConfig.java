@@ -0,0 +1,58 @@
+package io.resume.make.config;
+
+import io.resume.make.domain.user.service.UserCacheService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RedisConfig {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final UserCacheService userCacheService;
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * 노드 간 캐시 무효화 메시지 구독.
+     * 컨테이너를 빈으로 등록하면 Redis 가 없을 때 기동 자체가 실패하므로 기동 완료 후 직접 시작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(userCacheService, new ChannelTopic(UserCacheService.INVALIDATION_CHANNEL));
+        container.afterPropertiesSet();
+        try {
+            container.start();
+            this.listenerContainer = container;
+        } catch (RuntimeException e) {
+            // 구독이 없으면 다른 노드의 변경은 L1 TTL 이 지나야 반영된다
+            log.warn("Redis pub/sub unavailable, cache invalidation falls back to L1 TTL: {}", e.getMessage());
+            destroy(container);
+        }
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (listenerContainer != null) {
+            destroy(listenerContainer);
+        }
+    }
+
+    private void destroy(RedisMessageListenerContainer container) {
+        try {
+            container.destroy();
+        } catch (Exception e) {
+            log.debug("Failed to stop redis listener container: {}", e.getMessage());
+        }
+    }
+}
@@ -3,40 +3,133 @@ package io.resume.make.config;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import io.netty.util.NetUtil;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 
 
+import java.net.InetSocketAddress;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 카카오 API 용 WebClient.
+ * <p>
+ * kauth(토큰)와 kapi(사용자 정보, 로그아웃)는 호출 빈도가 달라 호스트별로 풀 크기를 따로 잡는다.
+ * 연결을 오래 재사용해 TLS handshake 를 줄이고, DNS 조회 결과는 {@code kakao.http.dns} 만큼 캐시한다.
+ * 풀(active/idle/pending, pending acquire 시간)과 요청(connect/TLS handshake 시간 등) 지표는
+ * {@code reactor.netty.connection.provider.*}, {@code reactor.netty.http.client.*} 로 내보낸다.
+ */
 @Configuration
 public class WebClientConfig {
-    @Bean
-    public WebClient webClient() {
-
-        ConnectionProvider connectionProvider = ConnectionProvider.builder("custom")
-                .maxConnections(100)    // 최대 연결 수
-                .maxIdleTime(Duration.ofSeconds(20))    // 유휴 연결 유지 시간
-                .maxLifeTime(Duration.ofSeconds(60))    // 연결 최대 생명 주기
-                .pendingAcquireTimeout(Duration.ofSeconds(60))  // 연결 대기 타임 아웃
-                .evictInBackground(Duration.ofSeconds(120))     // 백그라운드 정리 주기
+
+    @Value("${kakao.login.uri.base}")
+    private String kakaoAuthBaseUri;
+
+    @Value("${kakao.api.uri.base:https://kapi.kakao.com}")
+    private String kakaoApiBaseUri;
+
+    // http1.1 또는 h2 (ALPN 으로 협상하고 안 되면 HTTP/1.1)
+    @Value("${kakao.http.protocol:http1.1}")
+    private String protocol;
+
+    @Value("${kakao.http.pool.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${kakao.http.pool.auth.max-connections:50}")
+    private int authMaxConnections;
+
+    @Value("${kakao.http.pool.api.max-connections:100}")
+    private int apiMaxConnections;
+
+    @Value("${kakao.http.pool.max-idle-time:PT30S}")
+    private Duration maxIdleTime;
+
+    @Value("${kakao.http.pool.max-life-time:PT10M}")
+    private Duration maxLifeTime;
+
+    @Value("${kakao.http.pool.pending-acquire-timeout:PT5S}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${kakao.http.pool.evict-in-background:PT30S}")
+    private Duration evictInBackground;
+
+    @Value("${kakao.http.dns.cache-min-ttl:PT30S}")
+    private Duration dnsCacheMinTtl;
+
+    @Value("${kakao.http.dns.cache-max-ttl:PT5M}")
+    private Duration dnsCacheMaxTtl;
+
+    @Value("${kakao.http.dns.cache-negative-ttl:PT5S}")
+    private Duration dnsCacheNegativeTtl;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kakaoConnectionProvider() {
+        return ConnectionProvider.builder("kakao")
+                .maxConnections(maxConnections)    // 최대 연결 수 (호스트별 설정이 없는 호스트)
+                .maxIdleTime(maxIdleTime)    // 유휴 연결 유지 시간
+                .maxLifeTime(maxLifeTime)    // 연결 최대 생명 주기
+                .pendingAcquireTimeout(pendingAcquireTimeout)  // 연결 대기 타임 아웃
+                .evictInBackground(evictInBackground)     // 백그라운드 정리 주기
+                .forRemoteHost(remoteAddress(kakaoAuthBaseUri), spec -> spec.maxConnections(authMaxConnections))
+                .forRemoteHost(remoteAddress(kakaoApiBaseUri), spec -> spec.maxConnections(apiMaxConnections))
+                .metrics(true)
                 .build();
+    }
 
-        HttpClient httpClient = HttpClient.create(connectionProvider)
+    @Bean
+    public WebClient webClient(ConnectionProvider kakaoConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(kakaoConnectionProvider)
+                .protocol(protocols())
+                .resolver(spec -> spec
+                        .cacheMinTimeToLive(dnsCacheMinTtl)
+                        .cacheMaxTimeToLive(dnsCacheMaxTtl)
+                        .cacheNegativeTimeToLive(dnsCacheNegativeTtl))
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000)
                 .doOnConnected(conn -> conn
                         .addHandlerLast(new ReadTimeoutHandler(10, TimeUnit.SECONDS))
                         .addHandlerLast(new WriteTimeoutHandler(10, TimeUnit.SECONDS))
                 )
-                .responseTimeout(Duration.ofSeconds(10));
+                .responseTimeout(Duration.ofSeconds(10))
+                // 카카오 API 경로는 고정이므로 쿼리만 떼고 uri 태그로 쓴다
+                .metrics(true, WebClientConfig::stripQuery);
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
 
-}
\ No newline at end of file
+    private HttpProtocol[] protocols() {
+        return switch (protocol.toLowerCase()) {
+            case "h2" -> new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11};
+            case "http1.1" -> new HttpProtocol[]{HttpProtocol.HTTP11};
+            default -> throw new IllegalStateException("kakao.http.protocol must be http1.1 or h2: " + protocol);
+        };
+    }
+
+    /**
+     * reactor-netty 가 풀을 찾는 주소와 같은 형태로 만든다. 호스트 이름은 해석 전 주소, IP 는 해석된 주소.
+     */
+    static InetSocketAddress remoteAddress(String baseUri) {
+        UriComponents uri = UriComponentsBuilder.fromUriString(baseUri).build();
+        String host = uri.getHost();
+        int port = uri.getPort() != -1 ? uri.getPort() : ("http".equalsIgnoreCase(uri.getScheme()) ? 80 : 443);
+        if (NetUtil.isValidIpV4Address(host) || NetUtil.isValidIpV6Address(host)) {
+            return new InetSocketAddress(NetUtil.createInetAddressFromIpAddressString(host), port);
+        }
+        return InetSocketAddress.createUnresolved(host, port);
+    }
+
+    static String stripQuery(String uri) {
+        int query = uri.indexOf('?');
+        return query < 0 ? uri : uri.substring(0, query);
+    }
+
+}
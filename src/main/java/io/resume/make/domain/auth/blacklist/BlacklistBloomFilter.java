@@ -0,0 +1,468 @@
+package io.resume.make.domain.auth.blacklist;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.resume.make.domain.auth.repository.BlacklistedTokenRepository;
+import io.resume.make.global.lock.RedisLock;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 블랙리스트에 오른 refresh 토큰 해시의 Bloom filter. {@link JpaBlacklistStore} 에서만 사용한다.
+ * <p>
+ * {@link #mightContain(byte[])} 가 false 면 블랙리스트에 없는 것이 확실하므로 DB 조회를 건너뛴다. true 일 때만 DB 로 확인한다.
+ * 토큰 해시가 이미 SHA-256 이므로 별도 해시 없이 digest 의 앞 16바이트로 double hashing 해 비트 위치를 구한다.
+ * <p>
+ * 비트가 하나라도 빠지면 폐기된 토큰을 통과시키므로, 필터를 믿을 수 없는 경우는 모두 "있을 수 있음" 으로 답해 DB 로 확인한다.
+ * <ul>
+ *     <li>모든 노드가 Redis bitmap 하나를 공유한다. 세대(generation)마다 새 키를 쓰고, 현재 세대와 크기(m, k)는 meta 해시의
+ *     {@code live} 에 둔다. 조회/추가 스크립트가 노드가 알고 있는 세대와 {@code live} 를 비교하므로 세대가 바뀌면 바로 다시 읽는다.</li>
+ *     <li>bitmap 의 m 번째 비트(sentinel)는 다 만든 뒤에 켠다. 키가 지워지거나 evict 되면 sentinel 이 0 이 되어 DB 로 확인한다.</li>
+ *     <li>비트 기록에 실패한 노드는 {@code live} 를 지워 모든 노드가 DB 로 확인하게 한다. 다음 rebuild 까지 필터를 쓰지 않는다.</li>
+ *     <li>{@code rebuild-cron} 마다 Redis 락을 잡은 노드가 만료되지 않은 행으로 새 세대를 만든다. 만료된 해시가 쌓이지 않고
+ *     행 수에 맞춰 크기도 다시 정한다. 만드는 동안의 추가는 {@code next} 세대에도 기록되고, 다 만들면 {@code live} 로 바꾼다.</li>
+ * </ul>
+ * 새 세대는 {@code next} 를 등록한 뒤에 DB 를 읽으므로 {@link #add(byte[])} 는 행이 commit 된 뒤에 호출해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.blacklist.store", havingValue = "jpa")
+public class BlacklistBloomFilter {
+
+    // Redis Cluster 에서도 meta 와 bitmap 이 같은 slot 에 있도록 hash tag 를 쓴다
+    static final String KEY_PREFIX = "{auth:blacklist:bloom}:";
+    static final String META_KEY = KEY_PREFIX + "meta";
+    static final String LOCK_NAME = "auth:blacklist:bloom";
+    private static final String LIVE = "live";
+    private static final String NEXT = "next";
+    private static final int REDIS_BATCH = 4096;
+    private static final Duration RELOAD_INTERVAL = Duration.ofSeconds(1);
+
+    static final long MAYBE = 1;
+    static final long ABSENT = 0;
+    static final long STALE = -1;
+    static final long MISSING = -2;
+
+    /**
+     * KEYS: meta, bitmap / ARGV: 세대, sentinel 위치, 비트 위치...
+     */
+    static final RedisScript<Long> CHECK = new DefaultRedisScript<>("""
+            if (redis.call('hget', KEYS[1], 'live') or '') ~= ARGV[1] then return -1 end
+            if redis.call('getbit', KEYS[2], ARGV[2]) == 0 then return -2 end
+            for i = 3, #ARGV do
+              if redis.call('getbit', KEYS[2], ARGV[i]) == 0 then return 0 end
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: meta, live bitmap, next bitmap / ARGV: live 세대, next 세대, live 비트 수, live 비트 위치..., next 비트 위치...
+     */
+    static final RedisScript<Long> ADD = new DefaultRedisScript<>("""
+            if (redis.call('hget', KEYS[1], 'live') or '') ~= ARGV[1]
+                or (redis.call('hget', KEYS[1], 'next') or '') ~= ARGV[2] then return -1 end
+            local n = tonumber(ARGV[3])
+            for i = 4, 3 + n do redis.call('setbit', KEYS[2], ARGV[i], 1) end
+            for i = 4 + n, #ARGV do redis.call('setbit', KEYS[3], ARGV[i], 1) end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: bitmap / ARGV: 비트 위치...
+     */
+    static final RedisScript<Long> SET_BITS = new DefaultRedisScript<>("""
+            for i = 1, #ARGV do redis.call('setbit', KEYS[1], ARGV[i], 1) end
+            return #ARGV
+            """, Long.class);
+
+    /**
+     * KEYS: meta, 이전 live bitmap / ARGV: 새 세대, 이전 live 세대
+     */
+    static final RedisScript<Long> PROMOTE = new DefaultRedisScript<>("""
+            if (redis.call('hget', KEYS[1], 'next') or '') ~= ARGV[1]
+                or (redis.call('hget', KEYS[1], 'live') or '') ~= ARGV[2] then return 0 end
+            redis.call('hset', KEYS[1], 'live', ARGV[1])
+            redis.call('hdel', KEYS[1], 'next')
+            if ARGV[2] ~= '' then redis.call('del', KEYS[2]) end
+            return 1
+            """, Long.class);
+
+    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLock redisLock;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.blacklist.bloom.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.blacklist.bloom.fpp:0.01}")
+    private double fpp;
+
+    @Value("${auth.blacklist.bloom.min-capacity:100000}")
+    private long minCapacity;
+
+    @Value("${auth.blacklist.bloom.headroom:2.0}")
+    private double headroom;
+
+    // rebuild 가 멈춰도 오래된 세대를 계속 쓰지 않도록 bitmap 에 TTL 을 둔다. rebuild 주기보다 길게 잡는다
+    @Value("${auth.blacklist.bloom.generation-ttl:PT3H}")
+    private Duration generationTtl;
+
+    @Value("${auth.blacklist.bloom.lock-ttl:PT10M}")
+    private Duration lockTtl;
+
+    /** 조회에 쓰는 세대. 없으면 항상 DB 로 확인 */
+    private volatile Generation live;
+    /** 만들고 있는 세대. 있으면 추가할 때 함께 기록한다 */
+    private volatile Generation next;
+    private volatile long reloadedAt;
+    /** 비트 기록에 실패했지만 아직 live 를 지우지 못함 */
+    private volatile boolean invalidationPending;
+
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder insertions = new LongAdder();
+    private Counter negativeCounter;
+    private Counter truePositiveCounter;
+    private Counter falsePositiveCounter;
+    private Counter unknownCounter;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        negativeCounter = checks("negative");
+        truePositiveCounter = checks("true_positive");
+        falsePositiveCounter = checks("false_positive");
+        unknownCounter = checks("unknown");
+        Gauge.builder("auth.blacklist.bloom.fpp", this, BlacklistBloomFilter::observedFpp)
+                .tag("kind", "observed")
+                .register(meterRegistry);
+        Gauge.builder("auth.blacklist.bloom.fpp", this, BlacklistBloomFilter::expectedFpp)
+                .tag("kind", "expected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return false 면 블랙리스트에 없음이 확실, true 면 DB 확인 필요
+     */
+    public boolean mightContain(byte[] tokenHash) {
+        if (!enabled || (invalidationPending && !invalidate())) {
+            return true;
+        }
+        try {
+            long result = check(tokenHash);
+            if (result == STALE) {
+                reload();
+                result = check(tokenHash);
+            }
+            if (result == ABSENT) {
+                negatives.increment();
+                negativeCounter.increment();
+                return false;
+            }
+            if (result != MAYBE) {
+                unknownCounter.increment();
+            }
+        } catch (RuntimeException e) {
+            log.debug("Blacklist bloom filter unavailable: {}", e.getMessage());
+            unknownCounter.increment();
+        }
+        return true;
+    }
+
+    /**
+     * 블랙리스트 행이 commit 된 뒤에 호출한다
+     */
+    public void add(byte[] tokenHash) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            for (int attempt = 0; attempt < 3; attempt++) {
+                if (write(tokenHash)) {
+                    insertions.increment();
+                    return;
+                }
+                reload();
+            }
+            // 세대가 계속 바뀌는 중. 비트가 빠졌을 수 있으므로 필터를 내린다
+            log.warn("Blacklist bloom filter generation kept changing, disabling until rebuild");
+        } catch (RuntimeException e) {
+            log.warn("Failed to update blacklist bloom filter, disabling until rebuild: {}", e.getMessage());
+        }
+        invalidationPending = true;
+        invalidate();
+    }
+
+    /**
+     * {@link #mightContain(byte[])} 가 true 였던 해시를 DB 로 확인한 결과
+     */
+    public void recordLookup(boolean blacklisted) {
+        if (blacklisted) {
+            truePositiveCounter.increment();
+        } else {
+            falsePositives.increment();
+            falsePositiveCounter.increment();
+        }
+    }
+
+    /**
+     * 공유 필터가 없으면 (첫 배포, Redis flush, 기록 실패 후) 바로 만든다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Failed to load blacklist bloom filter, falling back to DB lookups: {}", e.getMessage());
+        }
+        if (live == null) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${auth.blacklist.bloom.rebuild-cron:0 0 * * * *}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        redisLock.runLocked(LOCK_NAME, lockTtl, this::build);
+    }
+
+    /**
+     * 만료되지 않은 블랙리스트 행 수로 크기를 정하고 새 세대를 만든다.
+     */
+    Generation build() {
+        long rows = blacklistedTokenRepository.countByExpiredAtAfter(LocalDateTime.now());
+        long capacity = Math.max(minCapacity, (long) Math.ceil(rows * headroom));
+        long m = optimalBits(capacity, fpp);
+        Generation generation = Generation.create(Long.toString(System.currentTimeMillis(), 36), m, optimalHashes(capacity, m));
+        try {
+            // 1. 끝나지 못한 이전 rebuild 를 정리하고 next 등록. 이후 모든 노드의 추가가 새 bitmap 에도 기록된다
+            discard(Generation.parse((String) redisTemplate.opsForHash().get(META_KEY, NEXT)));
+            redisTemplate.opsForHash().put(META_KEY, NEXT, generation.id());
+
+            // 2. next 등록 후 시작한 트랜잭션에서 읽으므로 그 전에 commit 된 행은 모두 포함된다
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<byte[]> hashes = blacklistedTokenRepository.streamTokenHashesByExpiredAtAfter(LocalDateTime.now())) {
+                    List<String> offsets = new ArrayList<>(REDIS_BATCH);
+                    hashes.forEach(hash -> {
+                        generation.offsets(hash, offsets);
+                        if (offsets.size() >= REDIS_BATCH) {
+                            setBits(generation, offsets);
+                        }
+                    });
+                    setBits(generation, offsets);
+                }
+            });
+
+            // 3. sentinel 을 켜고 live 로 교체. 이전 세대는 지운다
+            setBits(generation, new ArrayList<>(List.of(Long.toString(generation.m()))));
+            redisTemplate.expire(generation.key(), generationTtl);
+            promote(generation);
+            log.info("Blacklist bloom filter built: generation={}, rows={}, m={}, k={}",
+                    generation.id(), rows, generation.m(), generation.k());
+            return generation;
+        } catch (RuntimeException e) {
+            // live 를 바꾸지 않았으므로 이전 세대(없으면 DB 조회)를 계속 쓴다
+            log.warn("Failed to build blacklist bloom filter: {}", e.getMessage());
+            try {
+                discard(generation);
+            } catch (RuntimeException ignored) {
+                // 남은 키는 TTL 이 없어도 다음 rebuild 에서 정리된다
+            }
+            return null;
+        }
+    }
+
+    double observedFpp() {
+        double fp = falsePositives.sum();
+        double total = fp + negatives.sum();
+        return total == 0 ? 0.0 : fp / total;
+    }
+
+    /**
+     * 이 노드가 추가한 항목 수 기준의 대략적인 값
+     */
+    double expectedFpp() {
+        Generation generation = live;
+        if (generation == null) {
+            return 0.0;
+        }
+        double n = insertions.sum();
+        return Math.pow(1 - Math.exp(-generation.k() * n / generation.m()), generation.k());
+    }
+
+    private long check(byte[] tokenHash) {
+        Generation generation = live;
+        if (generation == null) {
+            if (System.nanoTime() - reloadedAt < RELOAD_INTERVAL.toNanos()) {
+                return MISSING;
+            }
+            reload();
+            generation = live;
+            if (generation == null) {
+                return MISSING;
+            }
+        }
+        List<String> args = new ArrayList<>(generation.k() + 2);
+        args.add(generation.id());
+        args.add(Long.toString(generation.m()));
+        generation.offsets(tokenHash, args);
+        Long result = redisTemplate.execute(CHECK, List.of(META_KEY, generation.key()), args.toArray());
+        return result == null ? MISSING : result;
+    }
+
+    private boolean write(byte[] tokenHash) {
+        Generation current = live;
+        Generation building = next;
+        List<String> args = new ArrayList<>();
+        args.add(current == null ? "" : current.id());
+        args.add(building == null ? "" : building.id());
+        args.add("0");
+        if (current != null) {
+            current.offsets(tokenHash, args);
+            args.set(2, Integer.toString(current.k()));
+        }
+        if (building != null) {
+            building.offsets(tokenHash, args);
+        }
+        List<String> keys = List.of(META_KEY,
+                current == null ? META_KEY : current.key(),
+                building == null ? META_KEY : building.key());
+        Long result = redisTemplate.execute(ADD, keys, args.toArray());
+        return result != null && result == MAYBE;
+    }
+
+    private void reload() {
+        List<Object> meta = redisTemplate.opsForHash().multiGet(META_KEY, List.of(LIVE, NEXT));
+        live = Generation.parse((String) meta.get(0));
+        next = Generation.parse((String) meta.get(1));
+        reloadedAt = System.nanoTime();
+    }
+
+    /**
+     * live 를 지워 모든 노드가 DB 로 확인하게 한다
+     */
+    private boolean invalidate() {
+        try {
+            redisTemplate.opsForHash().delete(META_KEY, LIVE);
+            live = null;
+            invalidationPending = false;
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Failed to invalidate blacklist bloom filter, checking DB until Redis recovers: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void setBits(Generation generation, List<String> offsets) {
+        if (!offsets.isEmpty()) {
+            redisTemplate.execute(SET_BITS, List.of(generation.key()), offsets.toArray());
+            offsets.clear();
+        }
+    }
+
+    private void promote(Generation generation) {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            Generation previous = Generation.parse((String) redisTemplate.opsForHash().get(META_KEY, LIVE));
+            Long promoted = redisTemplate.execute(PROMOTE,
+                    List.of(META_KEY, previous == null ? META_KEY : previous.key()),
+                    generation.id(), previous == null ? "" : previous.id());
+            if (promoted != null && promoted == 1) {
+                live = generation;
+                next = null;
+                return;
+            }
+        }
+        throw new IllegalStateException("generation " + generation.id() + " was replaced while building");
+    }
+
+    private void discard(Generation generation) {
+        if (generation == null) {
+            return;
+        }
+        redisTemplate.opsForHash().delete(META_KEY, NEXT);
+        redisTemplate.delete(generation.key());
+    }
+
+    private Counter checks(String result) {
+        return Counter.builder("auth.blacklist.bloom.checks")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    static long optimalBits(long capacity, double fpp) {
+        long m = (long) Math.ceil(-capacity * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        return Math.max(64, m);
+    }
+
+    static int optimalHashes(long capacity, long bits) {
+        return Math.max(1, (int) Math.round((double) bits / capacity * Math.log(2)));
+    }
+
+    /**
+     * @param id meta 에 기록하는 값 ({@code 이름:m:k}). 노드는 이 값이 바뀌었는지로 세대 교체를 알아챈다
+     */
+    record Generation(String id, long m, int k) {
+
+        static Generation create(String name, long m, int k) {
+            return new Generation(name + ":" + m + ":" + k, m, k);
+        }
+
+        static Generation parse(String id) {
+            if (id == null || id.isEmpty()) {
+                return null;
+            }
+            String[] parts = id.split(":");
+            return new Generation(id, Long.parseLong(parts[1]), Integer.parseInt(parts[2]));
+        }
+
+        String key() {
+            return KEY_PREFIX + id.substring(0, id.indexOf(':'));
+        }
+
+        void offsets(byte[] tokenHash, List<String> out) {
+            long h1 = readLong(tokenHash, 0);
+            long h2 = readLong(tokenHash, 8) | 1L;
+            for (int i = 0; i < k; i++) {
+                out.add(Long.toString(Math.floorMod(h1 + i * h2, m)));
+            }
+        }
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
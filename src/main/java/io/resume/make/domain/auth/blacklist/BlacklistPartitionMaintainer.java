@@ -0,0 +1,160 @@
+package io.resume.make.domain.auth.blacklist;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.resume.make.global.lock.RedisLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * 만료일 RANGE 파티션으로 나눈 blacklisted_refresh_token 관리 (docker/mysql/init.sql 참고).
+ * <p>
+ * {@code auth.blacklist.retention=partition} 이고 테이블이 실제로 파티션돼 있을 때만 동작한다.
+ * <ul>
+ *     <li>오늘부터 {@code days-ahead} 일 뒤까지의 일 파티션(pYYYYMMDD)을 pmax 를 나눠 미리 만든다.</li>
+ *     <li>상한이 오늘 이전인 파티션은 모든 행이 만료됐으므로 통째로 DROP 한다.</li>
+ * </ul>
+ * H2 나 파티션하지 않은 테이블에서는 아무것도 하지 않고 {@link BlacklistPurgeJob} 의 행 단위 삭제가 계속 동작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlacklistPartitionMaintainer {
+
+    static final String TABLE = "blacklisted_refresh_token";
+    static final String LOCK_NAME = "auth:blacklist:partition";
+    private static final String PREFIX = "p";
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisLock redisLock;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.blacklist.retention:delete}")
+    private String retention;
+
+    @Value("${auth.blacklist.partition.days-ahead:21}")
+    private int daysAhead;
+
+    @Value("${auth.blacklist.partition.lock-ttl:PT10M}")
+    private Duration lockTtl;
+
+    private volatile boolean partitioned;
+
+    /**
+     * 파티션 정리를 맡고 있으면 true. 이 경우 행 단위 삭제는 건너뛴다.
+     */
+    public boolean isActive() {
+        return partitioned;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (!"partition".equalsIgnoreCase(retention)) {
+            return;
+        }
+        partitioned = !partitionNames().isEmpty();
+        if (!partitioned) {
+            log.warn("auth.blacklist.retention=partition but {} is not partitioned, keeping row deletes", TABLE);
+            return;
+        }
+        run();
+    }
+
+    @Scheduled(cron = "${auth.blacklist.partition.cron:0 5 0 * * *}")
+    public void run() {
+        if (!partitioned) {
+            return;
+        }
+        redisLock.runLocked(LOCK_NAME, lockTtl, () -> maintain(LocalDate.now()));
+    }
+
+    int maintain(LocalDate today) {
+        List<LocalDate> days = dayPartitions();
+
+        // 1. 앞으로 쓸 일 파티션 생성. 오래 멈춰 있었으면 지난 날짜는 건너뛰고 오늘 파티션이 그 구간까지 받는다
+        LocalDate from = today;
+        if (!days.isEmpty() && days.get(days.size() - 1).isAfter(today.minusDays(1))) {
+            from = days.get(days.size() - 1).plusDays(1);
+        }
+        LocalDate until = today.plusDays(daysAhead);
+        if (!from.isAfter(until)) {
+            StringJoiner partitions = new StringJoiner(", ");
+            for (LocalDate day = from; !day.isAfter(until); day = day.plusDays(1)) {
+                partitions.add("PARTITION " + name(day) + " VALUES LESS THAN ('" + day.plusDays(1) + "')");
+            }
+            partitions.add("PARTITION pmax VALUES LESS THAN (MAXVALUE)");
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION pmax INTO (" + partitions + ")");
+            log.info("Created blacklist partitions {} ~ {}", from, until);
+        }
+
+        // 2. 상한(다음 날 0시)이 오늘 0시 이하인 파티션은 모두 만료
+        List<String> expired = new ArrayList<>();
+        for (LocalDate day : days) {
+            if (!day.plusDays(1).isAfter(today)) {
+                expired.add(name(day));
+            }
+        }
+        if (!expired.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + String.join(", ", expired));
+            meterRegistry.counter("auth.blacklist.partition.dropped").increment(expired.size());
+            log.info("Dropped expired blacklist partitions {}", expired);
+        }
+        return expired.size();
+    }
+
+    /**
+     * 현재 일 파티션의 날짜 목록 (오름차순). MySQL 이 아니거나 파티션이 없으면 빈 목록
+     */
+    List<LocalDate> dayPartitions() {
+        List<LocalDate> days = new ArrayList<>();
+        for (String name : partitionNames()) {
+            parse(name).ifPresent(days::add);
+        }
+        days.sort(null);
+        return days;
+    }
+
+    private List<String> partitionNames() {
+        try {
+            return jdbcTemplate.queryForList(
+                    "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                    String.class, TABLE);
+        } catch (DataAccessException e) {
+            // H2 등 information_schema.PARTITIONS 가 없는 DB
+            log.debug("Partition metadata unavailable: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    static String name(LocalDate day) {
+        return PREFIX + day.format(NAME_FORMAT);
+    }
+
+    static Optional<LocalDate> parse(String name) {
+        if (name == null || !name.startsWith(PREFIX) || name.length() != PREFIX.length() + 8) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.parse(name.substring(PREFIX.length()), NAME_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
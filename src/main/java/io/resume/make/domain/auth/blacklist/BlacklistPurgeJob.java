@@ -0,0 +1,93 @@
+package io.resume.make.domain.auth.blacklist;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.resume.make.domain.auth.repository.BlacklistedTokenRepository;
+import io.resume.make.global.lock.RedisLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 blacklisted_refresh_token 행 정리.
+ * <p>
+ * 한 번에 {@code batch-size} 행씩 지우고 배치 사이에 {@code pause} 만큼 쉬어 복제 지연과 락 경합을 줄인다.
+ * Redis 락을 잡은 노드 하나만 실행하며, 락 TTL 의 절반이 지나면 남은 행은 다음 실행으로 넘긴다.
+ * 테이블이 파티션돼 있으면 {@link BlacklistPartitionMaintainer} 가 정리하므로 실행하지 않는다.
+ * 블랙리스트를 테이블에 두는 {@code auth.blacklist.store=jpa} 일 때만 등록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.blacklist.store", havingValue = "jpa")
+@ConditionalOnProperty(name = "auth.blacklist.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class BlacklistPurgeJob {
+
+    static final String LOCK_NAME = "auth:blacklist:purge";
+
+    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final RedisLock redisLock;
+    private final BlacklistPartitionMaintainer partitionMaintainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.blacklist.purge.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${auth.blacklist.purge.pause:PT0.2S}")
+    private Duration pause;
+
+    @Value("${auth.blacklist.purge.lock-ttl:PT10M}")
+    private Duration lockTtl;
+
+    @Scheduled(cron = "${auth.blacklist.purge.cron:0 */10 * * * *}")
+    public void run() {
+        if (partitionMaintainer.isActive()) {
+            // 만료 파티션 DROP 으로 정리한다
+            return;
+        }
+        redisLock.runLocked(LOCK_NAME, lockTtl, this::purge)
+                .ifPresent(deleted -> log.info("Purged {} expired blacklist rows", deleted));
+    }
+
+    long purge() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Counter rows = Counter.builder("auth.blacklist.purge.rows").register(meterRegistry);
+        long deadline = System.nanoTime() + lockTtl.toNanos() / 2;
+        LocalDateTime now = LocalDateTime.now();
+        long total = 0;
+        String result = "completed";
+        try {
+            while (true) {
+                int deleted = blacklistedTokenRepository.deleteExpiredBatch(now, batchSize);
+                total += deleted;
+                rows.increment(deleted);
+                if (deleted < batchSize) {
+                    break;
+                }
+                if (System.nanoTime() > deadline) {
+                    result = "partial";
+                    break;
+                }
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result = "interrupted";
+        } catch (RuntimeException e) {
+            result = "error";
+            log.error("Failed to purge expired blacklist rows after {} rows: {}", total, e.getMessage());
+        } finally {
+            sample.stop(Timer.builder("auth.blacklist.purge.duration")
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+        return total;
+    }
+}
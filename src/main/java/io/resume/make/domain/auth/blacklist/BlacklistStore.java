@@ -0,0 +1,26 @@
+package io.resume.make.domain.auth.blacklist;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 폐기된 refresh 토큰 저장소. 토큰 원문 대신 SHA-256 digest(32바이트)로 관리한다.
+ * <p>
+ * {@code auth.blacklist.store} 로 구현을 고른다.
+ * <ul>
+ *     <li>redis (기본): SET NX + TTL. 만료된 항목은 Redis 가 지운다.</li>
+ *     <li>jpa: blacklisted_refresh_token 테이블. 만료 행은 별도로 정리해야 한다.</li>
+ * </ul>
+ */
+public interface BlacklistStore {
+
+    boolean contains(byte[] tokenHash);
+
+    /**
+     * 확인과 추가를 한 번에 수행
+     *
+     * @param expiresAt 토큰 만료 시각. 이 시각까지만 보관한다
+     * @return 새로 추가했으면 true, 이미 폐기된 토큰이면 false
+     */
+    boolean add(byte[] tokenHash, UUID userId, Instant expiresAt);
+}
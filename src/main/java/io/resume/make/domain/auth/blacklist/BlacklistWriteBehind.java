@@ -0,0 +1,281 @@
+package io.resume.make.domain.auth.blacklist;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * blacklisted_refresh_token write-behind 버퍼.
+ * <p>
+ * 요청 스레드는 항목을 큐에 넣고 바로 돌아가며, flusher 스레드가 {@code flush-interval} 마다 또는
+ * {@code batch-size} 만큼 쌓이면 multi-row {@code INSERT} 한 문장으로 기록한다.
+ * 배치에 중복 행이 섞여 문장이 실패하면 한 행씩 다시 기록하고, 그래도 실패한 행은 {@value #MAX_ATTEMPTS} 번까지 다시 큐에 넣는다.
+ * <p>
+ * 기록 전 항목은 {@link #isPending(byte[])} 로 조회할 수 있어, 같은 노드에서는 기록 전에도 재사용이 걸린다.
+ * 다른 노드에서 같은 토큰을 동시에 폐기하는 경우는 두 요청 모두 성공하고 DB 의 ux_token_hash 에서만 중복으로 걸러진다.
+ * 큐가 가득 차면 호출 스레드에서 바로 기록한다. 정상 종료 시에는 큐를 모두 비운 뒤 멈추며,
+ * 비정상 종료 시에는 기록 전 항목을 잃을 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.blacklist.store", havingValue = "jpa")
+public class BlacklistWriteBehind {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO blacklisted_refresh_token (user_id, token_hash, created_at, expired_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?)";
+    static final int MAX_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.blacklist.write-behind.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.blacklist.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${auth.blacklist.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${auth.blacklist.write-behind.flush-interval:PT0.005S}")
+    private Duration flushInterval;
+
+    private BlockingQueue<Entry> queue;
+    private final Map<ByteBuffer, Entry> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    private Timer flushTimer;
+    private DistributionSummary flushSize;
+    private Counter rejected;
+    private Counter failed;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushTimer = Timer.builder("auth.blacklist.flush")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushSize = DistributionSummary.builder("auth.blacklist.flush.size").register(meterRegistry);
+        this.rejected = Counter.builder("auth.blacklist.write_behind.rejected").register(meterRegistry);
+        this.failed = Counter.builder("auth.blacklist.write_behind.failed").register(meterRegistry);
+        Gauge.builder("auth.blacklist.write_behind.queue", queue, BlockingQueue::size).register(meterRegistry);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "blacklist-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushSafely,
+                flushInterval.toNanos(), flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 기록 대기 중인 항목인지
+     */
+    public boolean isPending(byte[] tokenHash) {
+        return enabled && pending.containsKey(ByteBuffer.wrap(tokenHash));
+    }
+
+    /**
+     * 행을 기록 대기열에 넣고 바로 돌아간다. 큐가 가득 차면 호출 스레드에서 기록한다.
+     * {@code afterWrite} 는 행의 기록이 끝난 뒤 (중복, 최종 실패 포함) 대기 목록에서 빠지기 전에 한 번 실행된다.
+     *
+     * @return 대기열에 넣었거나 기록했으면 true, 이 노드에서 같은 토큰을 기록 중이거나 이미 블랙리스트에 있으면 false
+     * @throws DataAccessException 큐가 가득 차 직접 기록하다 실패한 경우
+     */
+    public boolean add(byte[] tokenHash, UUID userId, Instant expiresAt, Runnable afterWrite) {
+        Entry entry = new Entry(tokenHash, userId, LocalDateTime.now(),
+                LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()), new AtomicInteger(), new CompletableFuture<>());
+        ByteBuffer key = ByteBuffer.wrap(tokenHash);
+        if (pending.putIfAbsent(key, entry) != null) {
+            return false;
+        }
+        entry.result().whenComplete((added, error) -> settle(key, entry, afterWrite));
+        if (queue.offer(entry)) {
+            if (queue.size() >= batchSize) {
+                try {
+                    flusher.execute(this::flushSafely);
+                } catch (RejectedExecutionException e) {
+                    // 종료 중. 남은 항목은 shutdown 에서 기록한다
+                }
+            }
+            return true;
+        }
+
+        // 큐가 가득 찼으면 backpressure 로 직접 기록하고 결과를 돌려준다
+        rejected.increment();
+        log.warn("Blacklist write-behind queue is full, writing synchronously");
+        try {
+            insert(List.of(entry));
+            entry.result().complete(true);
+            return true;
+        } catch (DuplicateKeyException e) {
+            entry.result().complete(false);
+            return false;
+        } catch (RuntimeException e) {
+            failed.increment();
+            entry.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 항목은 현재 스레드에서 모두 기록
+        while (!queue.isEmpty()) {
+            flush();
+        }
+        log.info("Blacklist write-behind drained");
+    }
+
+    private void flushSafely() {
+        try {
+            while (flush() == batchSize) {
+                // 가득 찬 배치가 나오면 바로 다음 배치를 기록한다
+            }
+        } catch (RuntimeException e) {
+            log.error("Blacklist flush failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 이번에 처리한 항목 수
+     */
+    synchronized int flush() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            insert(batch);
+            batch.forEach(entry -> entry.result().complete(true));
+        } catch (DataAccessException e) {
+            // 중복이나 문제가 된 행이 있으면 문장 전체가 실패하므로 한 행씩 다시 기록해 행마다 결과를 정한다
+            log.info("Batch insert of {} blacklist rows failed, retrying row by row: {}", batch.size(), e.getMessage());
+            batch.forEach(this::insertRow);
+        } catch (RuntimeException e) {
+            batch.forEach(entry -> entry.result().completeExceptionally(e));
+            throw e;
+        } finally {
+            sample.stop(flushTimer);
+            flushSize.record(batch.size());
+        }
+        return batch.size();
+    }
+
+    private void insertRow(Entry entry) {
+        try {
+            insert(List.of(entry));
+            entry.result().complete(true);
+        } catch (DuplicateKeyException e) {
+            // 다른 노드나 요청이 먼저 폐기했다
+            entry.result().complete(false);
+        } catch (RuntimeException e) {
+            retryLater(entry, e);
+        }
+    }
+
+    /**
+     * 실패한 행은 대기 목록에 남긴 채 다음 flush 에서 다시 기록한다
+     */
+    private void retryLater(Entry entry, RuntimeException e) {
+        if (entry.attempts().incrementAndGet() < MAX_ATTEMPTS && queue.offer(entry)) {
+            log.warn("Failed to write blacklist row, retrying (attempt {}): {}", entry.attempts().get(), e.getMessage());
+            return;
+        }
+        failed.increment();
+        log.error("Dropping blacklist row after {} attempts: {}", entry.attempts().get(), e.getMessage());
+        entry.result().completeExceptionally(e);
+    }
+
+    private void settle(ByteBuffer key, Entry entry, Runnable afterWrite) {
+        try {
+            afterWrite.run();
+        } finally {
+            pending.remove(key, entry);
+        }
+    }
+
+    private void insert(List<Entry> rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows.size() * (ROW.length() + 2))
+                .append(INSERT_PREFIX);
+        Object[] args = new Object[rows.size() * 4];
+        int i = 0;
+        for (Entry row : rows) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+            args[i++] = toBytes(row.userId());
+            args[i++] = row.tokenHash();
+            args[i++] = Timestamp.valueOf(row.createdAt());
+            args[i++] = Timestamp.valueOf(row.expiredAt());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private record Entry(byte[] tokenHash, UUID userId, LocalDateTime createdAt, LocalDateTime expiredAt,
+                         AtomicInteger attempts, CompletableFuture<Boolean> result) {
+    }
+}
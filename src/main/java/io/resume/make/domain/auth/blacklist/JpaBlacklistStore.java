@@ -0,0 +1,78 @@
+package io.resume.make.domain.auth.blacklist;
+
+import io.resume.make.domain.auth.entity.BlacklistedRefreshToken;
+import io.resume.make.domain.auth.repository.BlacklistedTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * blacklisted_refresh_token 테이블 블랙리스트. 조회 전에 {@link BlacklistBloomFilter} 로 DB 조회를 줄이고,
+ * 추가는 {@link BlacklistWriteBehind} 의 큐에 넣고 바로 돌아간다. 기록 전 항목은 대기 목록으로 걸러진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.blacklist.store", havingValue = "jpa")
+public class JpaBlacklistStore implements BlacklistStore {
+
+    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final BlacklistBloomFilter blacklistBloomFilter;
+    private final BlacklistWriteBehind writeBehind;
+
+    @Value("${jwt.refresh-token-expiration-time}")
+    private long refreshTokenExpirationTime;
+
+    /**
+     * 기록 대기 중인 항목을 먼저 보고, Bloom filter 가 없다고 답하면 DB 를 조회하지 않는다
+     */
+    @Override
+    public boolean contains(byte[] tokenHash) {
+        if (writeBehind.isPending(tokenHash)) {
+            return true;
+        }
+        if (!blacklistBloomFilter.mightContain(tokenHash)) {
+            return false;
+        }
+        boolean blacklisted = blacklistedTokenRepository.existsByTokenHash(tokenHash);
+        blacklistBloomFilter.recordLookup(blacklisted);
+        return blacklisted;
+    }
+
+    @Override
+    public boolean add(byte[] tokenHash, UUID userId, Instant expiresAt) {
+        if (contains(tokenHash)) {
+            return false;
+        }
+        if (expiresAt == null) {
+            // 만료 시각을 모르면 refresh 토큰이 살아 있을 수 있는 최대 기간만큼 보관한다
+            expiresAt = Instant.now().plusMillis(refreshTokenExpirationTime);
+        }
+        if (writeBehind.isEnabled()) {
+            // Bloom filter 에는 commit 뒤에 추가하고, 그때까지는 대기 목록으로 걸러진다
+            return writeBehind.add(tokenHash, userId, expiresAt, () -> blacklistBloomFilter.add(tokenHash));
+        }
+        try {
+            blacklistedTokenRepository.save(BlacklistedRefreshToken.builder()
+                    .userId(userId)
+                    .tokenHash(tokenHash)
+                    .expiredAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 토큰을 폐기한 경우 ux_token_hash 에 걸린다
+            log.info("Refresh token already blacklisted by a concurrent request");
+            return false;
+        } finally {
+            blacklistBloomFilter.add(tokenHash);
+        }
+        return true;
+    }
+}
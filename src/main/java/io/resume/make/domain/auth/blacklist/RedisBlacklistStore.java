@@ -0,0 +1,62 @@
+package io.resume.make.domain.auth.blacklist;
+
+import io.resume.make.global.exception.BusinessException;
+import io.resume.make.global.response.GlobalErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Redis 블랙리스트. 키는 {@code auth:blacklist:<base64url(digest)>}, 값은 회원 ID 이고 TTL 은 토큰의 남은 수명이다.
+ * Redis 오류 시에는 SERVICE_UNAVAILABLE 로 실패시켜 폐기 여부를 확인할 수 없는 토큰이 통과하지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.blacklist.store", havingValue = "redis", matchIfMissing = true)
+public class RedisBlacklistStore implements BlacklistStore {
+
+    static final String KEY_PREFIX = "auth:blacklist:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean contains(byte[] tokenHash) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(key(tokenHash)));
+        } catch (DataAccessException e) {
+            throw unavailable(e);
+        }
+    }
+
+    @Override
+    public boolean add(byte[] tokenHash, UUID userId, Instant expiresAt) {
+        Duration ttl = Duration.between(Instant.now(), expiresAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            // 이미 만료된 토큰은 서명 검증에서 걸러지므로 보관할 필요가 없다
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key(tokenHash), userId.toString(), ttl));
+        } catch (DataAccessException e) {
+            throw unavailable(e);
+        }
+    }
+
+    private BusinessException unavailable(DataAccessException e) {
+        log.error("Refresh token blacklist unavailable: {}", e.getMessage());
+        return new BusinessException(GlobalErrorCode.SERVICE_UNAVAILABLE);
+    }
+
+    static String key(byte[] tokenHash) {
+        return KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(tokenHash);
+    }
+}
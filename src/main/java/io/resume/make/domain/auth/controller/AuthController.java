@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
 import java.util.Map;
@@ -30,6 +31,9 @@ public class AuthController {
 	@Value("${jwt.use-cookie:true}")
 	private boolean useCookie;
 
+	@Value("${auth.login.reactive:true}")
+	private boolean reactiveLogin;
+
 	/**
 	 * kakao URL 생성
 	 */
@@ -45,21 +49,23 @@ public class AuthController {
 	}
 
 	/**
-	 * kakao 로그인 처리
+	 * kakao 로그인 처리.
+	 * Mono 를 반환하므로 서블릿 async 로 처리되고, reactive 모드에서는 카카오 응답을 기다리는 동안 요청 스레드를 반환한다.
+	 * 로그인은 다른 스레드에서 끝나므로 refresh 토큰 쿠키는 서블릿 응답에 직접 쓰지 않고 ResponseEntity 헤더로 담는다.
 	 */
 	@PostMapping("/kakao/login")
-	public ResponseEntity<BaseResponse<LoginResponse>> kakaoLogin(
+	public Mono<ResponseEntity<BaseResponse<LoginResponse>>> kakaoLogin(
 		@RequestParam String code,
 		@RequestParam String state,
 		@RequestParam String codeVerifier,
-		@RequestParam String redirectUri,
-		HttpServletResponse response
+		@RequestParam String redirectUri
 	) {
 		log.info("Processing kakao login: state: {}, redirectUri: {}, code.len={}, codeVerifier.len={}", state,
 			redirectUri, code != null ? code.length() : 0, codeVerifier != null ? codeVerifier.length() : 0);
-		LoginResponse loginResponse = authFacadeService.processKakaoLogin(code, state, codeVerifier, redirectUri,
-			response);
-		return BaseResponse.ok(loginResponse);
+		Mono<LoginResponse> login = reactiveLogin
+			? authFacadeService.processKakaoLoginReactive(code, state, codeVerifier, redirectUri)
+			: Mono.fromCallable(() -> authFacadeService.processKakaoLogin(code, state, codeVerifier, redirectUri));
+		return login.map(result -> BaseResponse.ok(result, authFacadeService.loginCookieHeaders(result)));
 	}
 
 	/**
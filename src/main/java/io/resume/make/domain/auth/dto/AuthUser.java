@@ -0,0 +1,19 @@
+package io.resume.make.domain.auth.dto;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * 검증된 access 토큰 claim 만으로 만든 인증 주체.
+ * User 엔티티가 필요한 핸들러는 {@code MemberService#getUser(UUID)} 로 직접 조회한다.
+ */
+public record AuthUser(
+        UUID userId,
+        String email
+) implements Principal {
+
+    @Override
+    public String getName() {
+        return userId.toString();
+    }
+}
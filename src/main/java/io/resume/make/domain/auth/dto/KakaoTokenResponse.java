@@ -8,5 +8,7 @@ public record KakaoTokenResponse(
         @JsonProperty("refresh_token") String refreshToken,
         @JsonProperty("expires_in") Long expiresIn,
         @JsonProperty("refresh_token_expires_in") Long refreshTokenExpiresIn,
-        @JsonProperty("scope") String scope
+        @JsonProperty("scope") String scope,
+        // OIDC 를 활성화한 앱에서만 내려온다
+        @JsonProperty("id_token") String idToken
 ) { }
@@ -0,0 +1,44 @@
+package io.resume.make.domain.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 카카오 사용자 정보 API(/v2/user/me) 응답 중 회원 저장에 쓰는 필드만.
+ * 나머지 필드(properties, 프로필 이미지, 동의 여부 등)는 역직렬화하지 않고 건너뛴다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record KakaoUserInfo(
+        Long id,
+        @JsonProperty("kakao_account") KakaoAccount kakaoAccount
+) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record KakaoAccount(
+            String email,
+            Profile profile,
+            // 예전 응답 형식은 kakao_account 바로 아래에 nickname 이 있다
+            String nickname
+    ) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Profile(
+            String nickname
+    ) {
+    }
+
+    public String email() {
+        return kakaoAccount == null ? null : kakaoAccount.email();
+    }
+
+    public String nickname() {
+        if (kakaoAccount == null) {
+            return null;
+        }
+        if (kakaoAccount.profile() != null && kakaoAccount.profile().nickname() != null) {
+            return kakaoAccount.profile().nickname();
+        }
+        return kakaoAccount.nickname();
+    }
+}
@@ -0,0 +1,12 @@
+package io.resume.make.domain.auth.dto;
+
+/**
+ * 회원 저장에 쓰는 카카오 사용자 정보.
+ * OIDC id_token claim(sub, email, nickname) 또는 사용자 정보 API(/v2/user/me) 응답에서 만든다.
+ */
+public record KakaoUserProfile(
+        String providerId,
+        String email,
+        String nickname
+) {
+}
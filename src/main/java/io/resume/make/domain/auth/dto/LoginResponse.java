@@ -1,5 +1,6 @@
 package io.resume.make.domain.auth.dto;
 
+import io.resume.make.domain.user.dto.UserSnapshot;
 import io.resume.make.domain.user.entity.User;
 import lombok.Builder;
 
@@ -22,5 +23,15 @@ public record LoginResponse(
                 .refreshToken(jwtRefreshToken)
                 .build();
     }
+
+    public static LoginResponse of(UserSnapshot user, String jwtAccessToken, String jwtRefreshToken) {
+        return LoginResponse.builder()
+                .accessToken(jwtAccessToken)
+                .userId(user.id())
+                .email(user.email())
+                .nickname(user.name())
+                .refreshToken(jwtRefreshToken)
+                .build();
+    }
 }
 
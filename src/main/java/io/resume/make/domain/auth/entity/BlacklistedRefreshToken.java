@@ -33,11 +33,12 @@ public class BlacklistedRefreshToken {
 
 	private LocalDateTime createdAt;
 
+	// 토큰의 실제 만료 시각까지만 보관한다
+	@Column(nullable = false)
 	private LocalDateTime expiredAt;
 
 	@PrePersist
 	public void prePersist() {
 		this.createdAt = LocalDateTime.now();
-		this.expiredAt = this.createdAt.plusDays(30);
 	}
 }
@@ -0,0 +1,89 @@
+package io.resume.make.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 소셜 로그아웃 outbox. 로그아웃 요청에서 한 행을 쓰고 {@code ProviderLogoutWorker} 가 꺼내서 처리한다.
+ * 성공하면 행을 지우고, 더 시도하지 않을 행은 DEAD 로 남긴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "provider_logout_outbox",
+	indexes = {
+		@Index(name = "idx_status_next_attempt_at", columnList = "status, next_attempt_at")
+	})
+public class ProviderLogoutOutbox {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, length = 20)
+	private String provider;
+
+	@Column(name = "provider_id", nullable = false, length = 100)
+	private String providerId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 10)
+	private Status status;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "last_error", length = 255)
+	private String lastError;
+
+	private LocalDateTime createdAt;
+
+	@PrePersist
+	public void prePersist() {
+		this.createdAt = LocalDateTime.now();
+		if (this.status == null) {
+			this.status = Status.PENDING;
+		}
+		if (this.nextAttemptAt == null) {
+			this.nextAttemptAt = this.createdAt;
+		}
+	}
+
+	/**
+	 * 실패 기록 후 nextAttemptAt 에 다시 시도
+	 */
+	public void retryAt(LocalDateTime nextAttemptAt, String error) {
+		this.attempts++;
+		this.nextAttemptAt = nextAttemptAt;
+		this.lastError = truncate(error);
+	}
+
+	/**
+	 * 더 시도하지 않음 (dead letter)
+	 */
+	public void dead(String error) {
+		this.attempts++;
+		this.status = Status.DEAD;
+		this.lastError = truncate(error);
+	}
+
+	private static String truncate(String error) {
+		return error != null && error.length() > 255 ? error.substring(0, 255) : error;
+	}
+
+	public enum Status {
+		PENDING,
+		DEAD
+	}
+}
@@ -12,6 +12,7 @@ public enum OAuthErrorCode implements ErrorCode {
     // State/PKCE 관련
     INVALID_STATE("OAUTH_4004", "유효하지 않거나 만료된 State 값입니다.", HttpStatus.BAD_REQUEST),
     INVALID_CODE_VERIFIER("OAUTH_4005", "PKCE 검증에 실패했습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_ID_TOKEN("OAUTH_4007", "유효하지 않은 ID 토큰입니다.", HttpStatus.BAD_REQUEST),
 
     // 카카오 API 관련 에러
     KAKAO_TOKEN_EXCHANGE_FAILED("OAUTH_4001", "카카오 토큰 교환에 실패했습니다.", HttpStatus.BAD_REQUEST),
@@ -19,6 +20,7 @@ public enum OAuthErrorCode implements ErrorCode {
     KAKAO_LOGOUT_FAILED("OAUTH_4003", "카카오 로그아웃에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     KAKAO_API_TIMEOUT("OAUTH_5001", "카카오 API 응답 시간이 초과되었습니다.", HttpStatus.GATEWAY_TIMEOUT),
     KAKAO_SERVER_ERROR("OAUTH_5002", "카카오 서버 오류가 발생했습니다.", HttpStatus.BAD_GATEWAY),
+    KAKAO_API_UNAVAILABLE("OAUTH_5003", "카카오 API 를 일시적으로 사용할 수 없습니다.", HttpStatus.SERVICE_UNAVAILABLE),
 
     // 일반 OAuth 에러
     INVALID_AUTHORIZATION_CODE("OAUTH_4006", "유효하지 않은 인증 코드입니다.", HttpStatus.BAD_REQUEST);
@@ -0,0 +1,123 @@
+package io.resume.make.domain.auth.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.resume.make.domain.auth.dto.AuthUser;
+import io.resume.make.domain.auth.jwt.VerifiedToken;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 검증이 끝난 access 토큰 → 인증 주체 캐시.
+ * <p>
+ * 같은 토큰이 반복해서 들어오면 서명 검증과 회원 존재 확인을 건너뛴다. 키는 토큰 원문이 아니라 SHA-256 digest 이고,
+ * 항목은 토큰의 exp 와 {@code jwt.access-token-cache.max-ttl} 중 먼저 오는 시점에 만료된다.
+ */
+@Slf4j
+@Component
+public class AccessTokenCache {
+
+    @Value("${jwt.access-token-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jwt.access-token-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${jwt.access-token-cache.max-ttl:PT5M}")
+    private Duration maxTtl;
+
+    private Cache<ByteBuffer, Entry> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<ByteBuffer, Entry>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, Entry entry, long currentTime) {
+                        long untilExp = Duration.between(Instant.now(), entry.expiresAt()).toNanos();
+                        return Math.max(0L, Math.min(untilExp, maxTtl.toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        log.info("Access token cache enabled={}, maximumSize={}, maxTtl={}", enabled, maximumSize, maxTtl);
+    }
+
+    /**
+     * @return 캐시된 인증 주체, 없거나 토큰이 만료됐으면 null
+     */
+    public AuthUser get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = cache.getIfPresent(digest(token));
+        if (entry == null || !entry.expiresAt().isAfter(Instant.now())) {
+            return null;
+        }
+        return entry.principal();
+    }
+
+    public void put(String token, VerifiedToken verified, AuthUser principal) {
+        if (!enabled) {
+            return;
+        }
+        cache.put(digest(token), new Entry(principal, verified.expiresAt()));
+    }
+
+    /**
+     * 토큰 하나를 캐시에서 제거
+     */
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    /**
+     * 로그아웃/탈퇴 등으로 회원의 인증 정보가 바뀌었을 때 그 회원의 항목을 모두 제거
+     */
+    public void invalidateUser(UUID userId) {
+        cache.asMap().values().removeIf(entry -> entry.principal().userId().equals(userId));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private ByteBuffer digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private record Entry(AuthUser principal, Instant expiresAt) {
+    }
+}
@@ -1,8 +1,11 @@
 package io.resume.make.domain.auth.filter;
 
+import io.resume.make.domain.auth.dto.AuthUser;
 import io.resume.make.domain.auth.jwt.JwtTokenProvider;
-import io.resume.make.domain.user.entity.User;
-import io.resume.make.domain.user.repository.UserRepository;
+import io.resume.make.domain.auth.metrics.AuthMetrics;
+import io.resume.make.domain.auth.jwt.VerifiedToken;
+import io.resume.make.domain.user.service.UserCacheService;
+import io.resume.make.global.exception.BusinessException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,36 +21,53 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.UUID;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
+    private final AccessTokenCache accessTokenCache;
+    private final AuthMetrics authMetrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        String outcome = "no_token";
+        String errorCode = AuthMetrics.NONE;
         try {
             // 1. Authorization 헤더에서 Jwt token 추출
             String token = extractTokenFromRequest(request);
 
-            // 2. token 있고 valid
-            if (token != null && jwtTokenProvider.validateToken(token) && jwtTokenProvider.hasTokenType(token, "access")) {
-                // 3. token 에서 user id extract
-                UUID userId = jwtTokenProvider.extractUserId(token);
+            if (token != null) {
+                // 2. 같은 토큰으로 이미 인증한 적이 있으면 검증/조회 없이 캐시된 주체 사용
+                AuthUser principal = accessTokenCache.get(token);
+                outcome = "cache_hit";
 
-                // 4. find User
-                User user = userRepository.findById(userId).orElse(null);
+                if (principal == null) {
+                    // 3. token 한 번만 파싱/검증하고 access 타입인지 확인
+                    VerifiedToken verified = jwtTokenProvider.verify(token);
 
-                if (user != null) {
+                    // 4. claim 만으로 주체 생성. 회원 존재 여부는 DB 가 아닌 캐시로 확인
+                    if (!verified.isAccessToken()) {
+                        outcome = "not_access_token";
+                    } else if (!userCacheService.exists(verified.userId())) {
+                        outcome = "unknown_user";
+                    } else {
+                        outcome = "authenticated";
+                        principal = new AuthUser(verified.userId(), verified.email());
+                        accessTokenCache.put(token, verified, principal);
+                    }
+                }
+
+                if (principal != null) {
                     // 5. Spring Security 인증 객체 생성
                     UsernamePasswordAuthenticationToken authenticationToken =
                             new UsernamePasswordAuthenticationToken(
-                                    user,
+                                    principal,
                                     null,
                                     List.of(new SimpleGrantedAuthority("ROLE_USER"))
                             );
@@ -56,12 +76,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     // 6. SecurityContext에 인증 정보 설정
                     SecurityContextHolder.getContext().setAuthentication(authenticationToken);
                     log.debug("Set authentication to SecurityContext: {}", authenticationToken);
-                    log.debug("Set authentication for User: {}", userId);
+                    log.debug("Set authentication for User: {}", principal.userId());
                 }
             }
+        } catch (BusinessException e) {
+            outcome = "rejected";
+            errorCode = e.getErrorCode().getCode();
+            log.debug("Rejected JWT: {}", errorCode);
         } catch (Exception e) {
+            outcome = "error";
+            errorCode = AuthMetrics.errorCode(e);
             log.error("Failed to set user authentication: {}", e.getMessage());
         }
+        authMetrics.filter(outcome, errorCode, System.nanoTime() - start);
         filterChain.doFilter(request, response);
     }
 
@@ -0,0 +1,430 @@
+package io.resume.make.domain.auth.jwt;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 이 서비스가 직접 발급한 compact JWS(고정 HMAC 헤더, 고정 claim 셋) 전용 검증기.
+ * <p>
+ * {@link Mac}/버퍼를 재사용하고 (플랫폼 스레드는 ThreadLocal, 가상 스레드는 공용 풀), 서명 비교와 claim 파싱을 String/Map/Date 없이 byte 단위로 처리한다.
+ * 헤더가 다르거나, 모르는 claim 이 있거나, escape 문자가 있거나, 서명/만료 검증에 실패하면 판단하지 않고
+ * {@link #UNHANDLED} / null 을 돌려준다. 호출자는 이 경우 jjwt 로 다시 검증해 정확한 예외를 얻는다.
+ */
+final class CompactJwsVerifier {
+
+    static final long UNHANDLED = -1L;
+
+    private static final int MAX_TOKEN_LENGTH = 2048;
+
+    private static final byte[] SUB = ascii("sub");
+    private static final byte[] TOKEN_TYPE = ascii("token_type");
+    private static final byte[] USER_ID = ascii("userId");
+    private static final byte[] EMAIL = ascii("email");
+    private static final byte[] IAT = ascii("iat");
+    private static final byte[] EXP = ascii("exp");
+    private static final byte[] JTI = ascii("jti");
+    private static final byte[] FID = ascii(JwtTokenProvider.FAMILY_ID_CLAIM);
+    private static final byte[] ACCESS = ascii(VerifiedToken.ACCESS);
+    private static final byte[] REFRESH = ascii(VerifiedToken.REFRESH);
+
+    private static final int[] BASE64URL = new int[128];
+
+    static {
+        Arrays.fill(BASE64URL, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private final SecretKey key;
+    private final String expectedHeader;
+    private final ThreadLocal<Scratch> scratch;
+    /**
+     * 가상 스레드는 요청마다 새로 만들어지므로 ThreadLocal 에 두면 요청마다 Mac/버퍼를 새로 만들게 된다.
+     * 가상 스레드에서는 이 풀에서 빌려 쓰고 돌려준다. ArrayBlockingQueue 는 ReentrantLock 기반이라 carrier 를 pin 하지 않는다.
+     */
+    private final BlockingQueue<Scratch> pool;
+
+    CompactJwsVerifier(SecretKey key, String expectedHeader) {
+        this.key = key;
+        this.expectedHeader = expectedHeader;
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(newMac(key)));
+        this.pool = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 4);
+        // 키/알고리즘 문제는 요청 시점이 아니라 기동 시점에 드러나도록 한 번 만들어 본다
+        pool.offer(new Scratch(newMac(key)));
+    }
+
+    /**
+     * 서명과 만료만 확인하고 exp(epoch seconds)를 반환. 객체를 만들지 않는다.
+     *
+     * @return 유효하면 exp, 판단할 수 없거나 유효하지 않으면 {@link #UNHANDLED}
+     */
+    long verifiedExpiry(String token) {
+        Scratch s = acquire();
+        try {
+            return verifyInto(token, s) ? s.exp : UNHANDLED;
+        } finally {
+            release(s);
+        }
+    }
+
+    /**
+     * @return 유효하면 검증된 claim, 판단할 수 없거나 유효하지 않으면 null
+     */
+    VerifiedToken verify(String token) {
+        Scratch s = acquire();
+        try {
+            return toVerifiedToken(token, s);
+        } finally {
+            release(s);
+        }
+    }
+
+    private VerifiedToken toVerifiedToken(String token, Scratch s) {
+        if (!verifyInto(token, s)) {
+            return null;
+        }
+        UUID userId = parseUuid(s.payload, s.subStart, s.subEnd);
+        if (userId == null) {
+            return null;
+        }
+        return new VerifiedToken(
+                userId,
+                string(s.payload, s.emailStart, s.emailEnd),
+                tokenType(s.payload, s.typeStart, s.typeEnd),
+                s.iat == UNHANDLED ? null : Instant.ofEpochSecond(s.iat),
+                Instant.ofEpochSecond(s.exp),
+                string(s.payload, s.jtiStart, s.jtiEnd),
+                string(s.payload, s.fidStart, s.fidEnd)
+        );
+    }
+
+    private Scratch acquire() {
+        if (!Thread.currentThread().isVirtual()) {
+            return scratch.get();
+        }
+        Scratch s = pool.poll();
+        return s != null ? s : new Scratch(newMac(key));
+    }
+
+    private void release(Scratch s) {
+        if (Thread.currentThread().isVirtual()) {
+            // 풀이 가득 차 있으면 버린다
+            pool.offer(s);
+        }
+    }
+
+    private boolean verifyInto(String token, Scratch s) {
+        if (token == null) {
+            return false;
+        }
+        int length = token.length();
+        int headerEnd = expectedHeader.length();
+        if (length > MAX_TOKEN_LENGTH
+                || length <= headerEnd
+                || token.charAt(headerEnd) != '.'
+                || !token.startsWith(expectedHeader)) {
+            return false;
+        }
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return false;
+        }
+
+        // 1. 서명 입력(header.payload)을 ASCII 그대로 버퍼에 복사해 HMAC 계산
+        byte[] input = s.input;
+        for (int i = 0; i < payloadEnd; i++) {
+            char c = token.charAt(i);
+            if (c >= 0x80) {
+                return false;
+            }
+            input[i] = (byte) c;
+        }
+        Mac mac = s.mac;
+        mac.update(input, 0, payloadEnd);
+        try {
+            mac.doFinal(s.expectedSignature, 0);
+        } catch (GeneralSecurityException e) {
+            mac.reset();
+            return false;
+        }
+
+        // 2. 서명 세그먼트를 디코딩해 constant-time 비교
+        int signatureLength = decode(token, payloadEnd + 1, length, s.signature);
+        if (signatureLength != s.expectedSignature.length) {
+            return false;
+        }
+        int diff = 0;
+        for (int i = 0; i < signatureLength; i++) {
+            diff |= s.signature[i] ^ s.expectedSignature[i];
+        }
+        if (diff != 0) {
+            return false;
+        }
+
+        // 3. payload 디코딩 후 고정 스키마로 claim 위치만 기록
+        int payloadLength = decode(token, headerEnd + 1, payloadEnd, s.payload);
+        if (payloadLength < 0 || !readClaims(s, payloadLength)) {
+            return false;
+        }
+        return s.subStart >= 0
+                && s.typeStart >= 0
+                && s.exp != UNHANDLED
+                && System.currentTimeMillis() <= s.exp * 1000L;
+    }
+
+    /**
+     * {"sub":"..","token_type":"..","userId":"..","email":"..","jti":"..","fid":"..","iat":1,"exp":2} 형태만 읽는다.
+     * 알 수 없는 key, 중첩 값, escape 가 있으면 false.
+     */
+    private static boolean readClaims(Scratch s, int end) {
+        s.reset();
+        byte[] b = s.payload;
+        int i = skipWhitespace(b, 0, end);
+        if (i >= end || b[i] != '{') {
+            return false;
+        }
+        i = skipWhitespace(b, i + 1, end);
+        if (i < end && b[i] == '}') {
+            return skipWhitespace(b, i + 1, end) == end;
+        }
+        while (i < end) {
+            if (b[i] != '"') {
+                return false;
+            }
+            int keyStart = i + 1;
+            int keyEnd = stringEnd(b, keyStart, end);
+            if (keyEnd < 0) {
+                return false;
+            }
+            i = skipWhitespace(b, keyEnd + 1, end);
+            if (i >= end || b[i] != ':') {
+                return false;
+            }
+            i = skipWhitespace(b, i + 1, end);
+            if (i >= end) {
+                return false;
+            }
+
+            if (b[i] == '"') {
+                int valueStart = i + 1;
+                int valueEnd = stringEnd(b, valueStart, end);
+                if (valueEnd < 0) {
+                    return false;
+                }
+                if (matches(b, keyStart, keyEnd, SUB)) {
+                    s.subStart = valueStart;
+                    s.subEnd = valueEnd;
+                } else if (matches(b, keyStart, keyEnd, TOKEN_TYPE)) {
+                    s.typeStart = valueStart;
+                    s.typeEnd = valueEnd;
+                } else if (matches(b, keyStart, keyEnd, EMAIL)) {
+                    s.emailStart = valueStart;
+                    s.emailEnd = valueEnd;
+                } else if (matches(b, keyStart, keyEnd, JTI)) {
+                    s.jtiStart = valueStart;
+                    s.jtiEnd = valueEnd;
+                } else if (matches(b, keyStart, keyEnd, FID)) {
+                    s.fidStart = valueStart;
+                    s.fidEnd = valueEnd;
+                } else if (!matches(b, keyStart, keyEnd, USER_ID)) {
+                    return false;
+                }
+                i = valueEnd + 1;
+            } else if (b[i] >= '0' && b[i] <= '9') {
+                long value = 0;
+                int digits = 0;
+                while (i < end && b[i] >= '0' && b[i] <= '9' && digits < 18) {
+                    value = value * 10 + (b[i] - '0');
+                    i++;
+                    digits++;
+                }
+                if (i < end && b[i] >= '0' && b[i] <= '9') {
+                    return false;
+                }
+                if (matches(b, keyStart, keyEnd, IAT)) {
+                    s.iat = value;
+                } else if (matches(b, keyStart, keyEnd, EXP)) {
+                    s.exp = value;
+                } else {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+
+            i = skipWhitespace(b, i, end);
+            if (i >= end) {
+                return false;
+            }
+            if (b[i] == '}') {
+                return skipWhitespace(b, i + 1, end) == end;
+            }
+            if (b[i] != ',') {
+                return false;
+            }
+            i = skipWhitespace(b, i + 1, end);
+        }
+        return false;
+    }
+
+    private static int stringEnd(byte[] b, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (b[i] == '"') {
+                return i;
+            }
+            if (b[i] == '\\') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] b, int from, int end) {
+        int i = from;
+        while (i < end && (b[i] == ' ' || b[i] == '\n' || b[i] == '\r' || b[i] == '\t')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean matches(byte[] b, int start, int end, byte[] expected) {
+        return Arrays.equals(b, start, end, expected, 0, expected.length);
+    }
+
+    private static String string(byte[] b, int start, int end) {
+        return start < 0 ? null : new String(b, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private static String tokenType(byte[] b, int start, int end) {
+        if (matches(b, start, end, ACCESS)) {
+            return VerifiedToken.ACCESS;
+        }
+        if (matches(b, start, end, REFRESH)) {
+            return VerifiedToken.REFRESH;
+        }
+        return new String(b, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Base64URL(패딩 없음, 정규 인코딩만) 디코딩
+     *
+     * @return 디코딩된 길이, 잘못된 입력이면 -1
+     */
+    private static int decode(String src, int from, int to, byte[] dst) {
+        int length = to - from;
+        if (length % 4 == 1 || length * 3 / 4 > dst.length) {
+            return -1;
+        }
+        int out = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            char c = src.charAt(i);
+            int v = c < 128 ? BASE64URL[c] : -1;
+            if (v < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | v;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                dst[out++] = (byte) (bits >> bitCount);
+            }
+        }
+        // 남는 비트가 0 이 아닌 비정규 인코딩은 같은 바이트로 디코딩되는 다른 문자열이므로 거부
+        if ((bits & ((1 << bitCount) - 1)) != 0) {
+            return -1;
+        }
+        return out;
+    }
+
+    /**
+     * 8-4-4-4-12 형식의 UUID 를 String 을 거치지 않고 파싱
+     */
+    private static UUID parseUuid(byte[] b, int start, int end) {
+        if (end - start != 36) {
+            return null;
+        }
+        long msb = 0;
+        long lsb = 0;
+        int nibbles = 0;
+        for (int i = start; i < end; i++) {
+            int offset = i - start;
+            if (offset == 8 || offset == 13 || offset == 18 || offset == 23) {
+                if (b[i] != '-') {
+                    return null;
+                }
+                continue;
+            }
+            int v = Character.digit(b[i], 16);
+            if (v < 0) {
+                return null;
+            }
+            if (nibbles < 16) {
+                msb = (msb << 4) | v;
+            } else {
+                lsb = (lsb << 4) | v;
+            }
+            nibbles++;
+        }
+        return new UUID(msb, lsb);
+    }
+
+    private static Mac newMac(SecretKey key) {
+        try {
+            Mac mac = Mac.getInstance(key.getAlgorithm());
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + key.getAlgorithm(), e);
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 재사용 버퍼와 파싱 결과(payload 내 offset)
+     */
+    private static final class Scratch {
+        private final Mac mac;
+        private final byte[] input = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] payload = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] signature = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] expectedSignature;
+
+        private int subStart;
+        private int subEnd;
+        private int typeStart;
+        private int typeEnd;
+        private int emailStart;
+        private int emailEnd;
+        private int jtiStart;
+        private int jtiEnd;
+        private int fidStart;
+        private int fidEnd;
+        private long iat;
+        private long exp;
+
+        private Scratch(Mac mac) {
+            this.mac = mac;
+            this.expectedSignature = new byte[mac.getMacLength()];
+        }
+
+        private void reset() {
+            subStart = subEnd = typeStart = typeEnd = emailStart = emailEnd = -1;
+            jtiStart = jtiEnd = fidStart = fidEnd = -1;
+            iat = exp = UNHANDLED;
+        }
+    }
+}
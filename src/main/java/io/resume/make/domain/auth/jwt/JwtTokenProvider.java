@@ -11,9 +11,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.time.Duration;
 import java.util.Date;
 import java.util.UUID;
 
@@ -21,6 +19,9 @@ import java.util.UUID;
 @Component
 public class JwtTokenProvider {
 
+    /** refresh 토큰 family id claim */
+    public static final String FAMILY_ID_CLAIM = "fid";
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -31,6 +32,8 @@ public class JwtTokenProvider {
     private long refreshTokenExpirationTime;
 
     private SecretKey key;
+    private JwtParser parser;
+    private CompactJwsVerifier compactVerifier;
 
     @PostConstruct
     public void init() {
@@ -38,17 +41,41 @@ public class JwtTokenProvider {
             throw new IllegalStateException("jwt.secret must be at least 32 characters for HMAC signing");
         }
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.compactVerifier = new CompactJwsVerifier(key, issuedHeader());
     }
 
     public String generateAccessToken(UUID userId, String email) {
-        return generateToken(userId, email, "access", accessTokenExpirationTime);
+        return generateToken(userId, email, VerifiedToken.ACCESS, accessTokenExpirationTime);
     }
 
+    /**
+     * 새 family 의 첫 refresh 토큰 (로그인)
+     */
     public String generateRefreshToken(UUID userId, String email) {
-        return generateToken(userId, email, "refresh", refreshTokenExpirationTime);
+        return generateRefreshToken(userId, email, UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * 기존 family 를 잇는 refresh 토큰 (재발급)
+     *
+     * @param familyId 로그인 시 정해진 family id
+     * @param tokenId  새 토큰의 jti
+     */
+    public String generateRefreshToken(UUID userId, String email, String familyId, String tokenId) {
+        return builder(userId, email, VerifiedToken.REFRESH, refreshTokenExpirationTime)
+                .id(tokenId)
+                .claim(FAMILY_ID_CLAIM, familyId)
+                .compact();
     }
 
     public String generateToken(UUID userId, String email, String type, Long expirationMills) {
+        return builder(userId, email, type, expirationMills).compact();
+    }
+
+    private JwtBuilder builder(UUID userId, String email, String type, long expirationMills) {
         Date now = new Date();
         Date exp = new Date(now.getTime() + expirationMills);
         return Jwts.builder()
@@ -58,87 +85,71 @@ public class JwtTokenProvider {
                 .claim("email", email)
                 .issuedAt(now)
                 .expiration(exp)
-                .signWith(key)
-                .compact();
+                .signWith(key);
     }
 
     /**
-     * token 에서 userId 추출
+     * 토큰 서명/만료 검증 후 claim 을 한 번에 추출
      *
-     * @param token
-     * @return userId
+     * @param token 토큰
+     * @return 검증된 claim
+     * @throws BusinessException 만료 시 EXPIRED_TOKEN, 그 외 INVALID_TOKEN
      */
-    public UUID extractUserId(String token) {
+    public VerifiedToken verify(String token) {
+        VerifiedToken fast = compactVerifier.verify(token);
+        if (fast != null) {
+            return fast;
+        }
+        // 직접 발급한 형식이 아니거나 검증에 실패한 토큰은 jjwt 로 다시 검증해 정확한 원인을 남긴다
         try {
-            Claims claims = getClaims(token);
-            String idString = claims.getSubject();
-            return UUID.fromString(idString);
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Date issuedAt = claims.getIssuedAt();
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                throw new MalformedJwtException("JWT Token has no expiration date");
+            }
+            return new VerifiedToken(
+                    UUID.fromString(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.get("token_type", String.class),
+                    issuedAt != null ? issuedAt.toInstant() : null,
+                    expiration.toInstant(),
+                    claims.getId(),
+                    claims.get(FAMILY_ID_CLAIM, String.class)
+            );
         } catch (ExpiredJwtException e) {
-            log.warn("Expired JWT while getting userId");
+            log.warn("Expired JWT Token: {}", e.getMessage());
             throw new BusinessException(GlobalErrorCode.EXPIRED_TOKEN);
-        } catch (JwtException e) {
-            log.error("Invalid JWT Token while getting userId: {}", e.getMessage());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid JWT Token: {}", e.getMessage());
             throw new BusinessException(GlobalErrorCode.INVALID_TOKEN);
         }
     }
 
-    /**
-     * claims 추출
-     *
-     * @param token 토큰
-     * @return token 에서 추출한 claim
-     */
-    public Claims getClaims(String token) {
-        try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-        } catch (JwtException e) {
-            log.warn("Invalid JWT Token while getting claims: {}", e.getMessage());
-            throw new IllegalArgumentException("Invalid JWT Token while getting claims");
-        }
-    }
-
-    public LocalDateTime getExpirationDate(String token) {
-        Claims claims = getClaims(token);
-        Date expiration = claims.getExpiration();
-        if (expiration == null) {
-            throw new IllegalArgumentException("JWT Token has no expiration date");
-        }
-        return LocalDateTime.ofInstant(
-                Instant.ofEpochMilli(expiration.getTime()),
-                ZoneId.systemDefault()
-        );
-    }
-
-
     public boolean validateToken(String token) {
+        if (compactVerifier.verifiedExpiry(token) != CompactJwsVerifier.UNHANDLED) {
+            return true;
+        }
         try {
-            Jws<Claims> jwt = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return jwt.getBody().getExpiration().after(new Date());
-        } catch (ExpiredJwtException e) {
-            log.warn("Expired JWT Token while validating token: {}", e.getMessage());
-            return false;
-        } catch (JwtException e) {
-            log.warn("Invalid JWT Token while validating token: {}", e.getMessage());
+            verify(token);
+            return true;
+        } catch (BusinessException e) {
             return false;
         }
+    }
 
+    /**
+     * 이 키로 발급되는 토큰의 헤더 세그먼트. jjwt 가 키 길이에 맞춰 고른 HS256/384/512 헤더를 그대로 따른다.
+     */
+    private String issuedHeader() {
+        String probe = Jwts.builder()
+                .subject("probe")
+                .signWith(key)
+                .compact();
+        return probe.substring(0, probe.indexOf('.'));
     }
 
-    public boolean hasTokenType(String token, String expectedType) {
-        try {
-            Claims claims = getClaims(token);
-            String tokenType = claims.get("token_type", String.class);
-            return expectedType.equals(tokenType);
-        } catch (Exception e) {
-            log.warn("Failed to validate token type: {}", e.getMessage());
-            return false;
-        }
+    public Duration getRefreshTokenTtl() {
+        return Duration.ofMillis(refreshTokenExpirationTime);
     }
 }
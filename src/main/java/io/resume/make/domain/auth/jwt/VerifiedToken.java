@@ -0,0 +1,44 @@
+package io.resume.make.domain.auth.jwt;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 서명 검증이 끝난 토큰의 claim 스냅샷.
+ * refresh 토큰은 jti({@code tokenId})와 family id({@code familyId})를 함께 가진다.
+ * 한 요청에서 토큰은 {@link JwtTokenProvider#verify(String)} 로 한 번만 파싱하고, 이후에는 이 값을 넘겨 사용한다.
+ */
+public record VerifiedToken(
+        UUID userId,
+        String email,
+        String tokenType,
+        Instant issuedAt,
+        Instant expiresAt,
+        String tokenId,
+        String familyId
+) {
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    /**
+     * jti/family 가 없는 토큰 (access 토큰, family 도입 전 refresh 토큰)
+     */
+    public VerifiedToken(UUID userId, String email, String tokenType, Instant issuedAt, Instant expiresAt) {
+        this(userId, email, tokenType, issuedAt, expiresAt, null, null);
+    }
+
+    /**
+     * 같은 로그인에서 이어지는 refresh 토큰 계열에 속하는지. 속하면 회전은 family 단위로 관리한다.
+     */
+    public boolean hasFamily() {
+        return tokenId != null && familyId != null;
+    }
+
+    public boolean isAccessToken() {
+        return ACCESS.equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH.equals(tokenType);
+    }
+}
@@ -0,0 +1,51 @@
+package io.resume.make.domain.auth.logout;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.resume.make.domain.auth.entity.ProviderLogoutOutbox;
+import io.resume.make.domain.auth.repository.ProviderLogoutOutboxRepository;
+import io.resume.make.global.exception.BusinessException;
+import io.resume.make.global.response.GlobalErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소셜 로그아웃 요청을 outbox 테이블에 기록한다. 실제 호출은 {@link ProviderLogoutWorker} 가 한다.
+ * 로그아웃 응답은 INSERT 만 기다리고 카카오 응답은 기다리지 않는다.
+ * INSERT 가 실패하면 한 번 더 시도하고, 그래도 실패하면 카카오 로그아웃이 유실되지 않도록 요청을 실패시킨다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogoutOutbox {
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    private final ProviderLogoutOutboxRepository outboxRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @throws BusinessException SERVICE_UNAVAILABLE, 재시도 후에도 기록하지 못한 경우
+     */
+    public void enqueue(String provider, String providerId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                outboxRepository.save(ProviderLogoutOutbox.builder()
+                        .provider(provider)
+                        .providerId(providerId)
+                        .build());
+                meterRegistry.counter("auth.logout_outbox.enqueued", "result", attempt == 1 ? "ok" : "retried").increment();
+                return;
+            } catch (DataAccessException e) {
+                if (attempt < MAX_ATTEMPTS) {
+                    log.warn("Retrying {} logout enqueue for providerId={}: {}", provider, providerId, e.getMessage());
+                    continue;
+                }
+                meterRegistry.counter("auth.logout_outbox.enqueued", "result", "failed").increment();
+                log.error("Failed to enqueue {} logout for providerId={}: {}", provider, providerId, e.getMessage());
+                throw new BusinessException(GlobalErrorCode.SERVICE_UNAVAILABLE);
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package io.resume.make.domain.auth.logout;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.resume.make.domain.auth.entity.ProviderLogoutOutbox;
+import io.resume.make.domain.auth.entity.ProviderLogoutOutbox.Status;
+import io.resume.make.domain.auth.exception.OAuthErrorCode;
+import io.resume.make.domain.auth.repository.ProviderLogoutOutboxRepository;
+import io.resume.make.domain.auth.service.KakaoOAuthService;
+import io.resume.make.global.exception.BusinessException;
+import io.resume.make.global.lock.RedisLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * provider_logout_outbox 처리.
+ * <p>
+ * Redis 락을 잡은 노드 하나가 {@code poll-interval} 마다 처리할 차례가 된 행을 {@code batch-size} 개씩 꺼내
+ * 초당 {@code rate-per-second} 회 이하로 카카오 로그아웃을 호출한다.
+ * <ul>
+ *     <li>성공하면 행을 지운다.</li>
+ *     <li>4xx 처럼 다시 보내도 소용없는 실패, {@code max-attempts} 를 넘긴 행은 DEAD 로 남긴다.</li>
+ *     <li>그 밖의 실패는 지수 backoff(jitter 포함) 후 다시 시도한다. circuit 이 열려 있으면 이번 실행을 멈춘다.</li>
+ * </ul>
+ * 처리 결과는 {@code auth.logout_outbox.processed{result=done|retry|dead}} 로 기록한다.
+ * DEAD 행은 {@code dead-retention} 동안 확인용으로 남겨 두고 {@code purge-cron} 마다 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.logout-outbox.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class ProviderLogoutWorker {
+
+    static final String LOCK_NAME = "auth:logout-outbox";
+    static final String PURGE_LOCK_NAME = "auth:logout-outbox:purge";
+
+    private final ProviderLogoutOutboxRepository outboxRepository;
+    private final KakaoOAuthService kakaoOAuthService;
+    private final RedisLock redisLock;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.logout-outbox.worker.batch-size:100}")
+    private int batchSize;
+
+    @Value("${auth.logout-outbox.worker.rate-per-second:20}")
+    private int ratePerSecond;
+
+    @Value("${auth.logout-outbox.worker.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${auth.logout-outbox.worker.initial-backoff:PT5S}")
+    private Duration initialBackoff;
+
+    @Value("${auth.logout-outbox.worker.max-backoff:PT10M}")
+    private Duration maxBackoff;
+
+    @Value("${auth.logout-outbox.worker.lock-ttl:PT1M}")
+    private Duration lockTtl;
+
+    @Value("${auth.logout-outbox.worker.dead-retention:P7D}")
+    private Duration deadRetention;
+
+    @Scheduled(fixedDelayString = "${auth.logout-outbox.worker.poll-interval:PT1S}")
+    public void run() {
+        redisLock.runLocked(LOCK_NAME, lockTtl, this::drain)
+                .filter(processed -> processed > 0)
+                .ifPresent(processed -> log.debug("Processed {} provider logout rows", processed));
+    }
+
+    @Scheduled(cron = "${auth.logout-outbox.worker.purge-cron:0 30 4 * * *}")
+    public void purge() {
+        redisLock.runLocked(PURGE_LOCK_NAME, lockTtl, this::purgeDead)
+                .filter(deleted -> deleted > 0)
+                .ifPresent(deleted -> log.info("Purged {} dead provider logout rows", deleted));
+    }
+
+    /**
+     * @return 이번에 지운 DEAD 행 수
+     */
+    long purgeDead() {
+        LocalDateTime before = LocalDateTime.now().minus(deadRetention);
+        long deadline = System.nanoTime() + lockTtl.toNanos() / 2;
+        long total = 0;
+        int deleted;
+        do {
+            deleted = outboxRepository.deleteDeadBatch(before, batchSize);
+            total += deleted;
+        } while (deleted == batchSize && System.nanoTime() < deadline);
+        meterRegistry.counter("auth.logout_outbox.purged").increment(total);
+        return total;
+    }
+
+    /**
+     * @return 이번에 처리한 행 수
+     */
+    int drain() {
+        List<ProviderLogoutOutbox> due = outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                Status.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+        long interval = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+        long deadline = System.nanoTime() + lockTtl.toNanos() / 2;
+        long nextPermit = System.nanoTime();
+        int processed = 0;
+        for (ProviderLogoutOutbox row : due) {
+            // 1. 호출 간격 유지
+            long wait = nextPermit - System.nanoTime();
+            if (wait > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            nextPermit = Math.max(nextPermit, System.nanoTime()) + interval;
+
+            // 2. 처리. circuit 이 열렸으면 남은 행은 다음 실행으로
+            processed++;
+            if (!process(row) || System.nanoTime() > deadline) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * @return 이번 실행에서 계속 처리해도 되면 true
+     */
+    boolean process(ProviderLogoutOutbox row) {
+        try {
+            logout(row);
+            outboxRepository.delete(row);
+            count("done");
+            return true;
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == OAuthErrorCode.KAKAO_LOGOUT_FAILED) {
+                deadLetter(row, e.getMessage());
+                return true;
+            }
+            reschedule(row, e.getMessage());
+            return e.getErrorCode() != OAuthErrorCode.KAKAO_API_UNAVAILABLE;
+        } catch (RuntimeException e) {
+            reschedule(row, e.toString());
+            return true;
+        }
+    }
+
+    private void logout(ProviderLogoutOutbox row) {
+        if (!"kakao".equalsIgnoreCase(row.getProvider())) {
+            throw new BusinessException(OAuthErrorCode.KAKAO_LOGOUT_FAILED);
+        }
+        kakaoOAuthService.logoutKakaoUser(row.getProviderId());
+    }
+
+    private void reschedule(ProviderLogoutOutbox row, String error) {
+        if (row.getAttempts() + 1 >= maxAttempts) {
+            deadLetter(row, error);
+            return;
+        }
+        row.retryAt(LocalDateTime.now().plus(backoff(row.getAttempts())), error);
+        outboxRepository.save(row);
+        count("retry");
+    }
+
+    private void deadLetter(ProviderLogoutOutbox row, String error) {
+        row.dead(error);
+        outboxRepository.save(row);
+        count("dead");
+        log.warn("Provider logout dead-lettered: id={}, provider={}, providerId={}, attempts={}, error={}",
+                row.getId(), row.getProvider(), row.getProviderId(), row.getAttempts(), error);
+    }
+
+    /**
+     * initial * 2^attempts 를 max 로 자르고 절반~전체 사이에서 고른다
+     */
+    Duration backoff(int attempts) {
+        long ceiling = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempts, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("auth.logout_outbox.processed", "result", result).increment();
+    }
+}
@@ -0,0 +1,145 @@
+package io.resume.make.domain.auth.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.resume.make.global.exception.BusinessException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 인증 흐름 단계별 타이머.
+ * <ul>
+ *     <li>{@code auth.flow}: login / refresh / logout 전체 (flow, result, error_code)</li>
+ *     <li>{@code auth.stage}: state 확인, 카카오 호출, 회원 저장, JWT 발급 등 단계 (stage, result, error_code)</li>
+ *     <li>{@code auth.filter}: JwtAuthenticationFilter 결과 (outcome, error_code)</li>
+ * </ul>
+ * 모든 타이머는 histogram 을 내보내므로 Prometheus 에서 단계별 p50/p99 를 계산할 수 있다.
+ * <p>
+ * 타이머는 태그 조합마다 한 번만 만들어 재사용한다. error_code 는 {@link BusinessException} 의 코드 아니면
+ * {@link #INTERNAL} 이므로 태그 조합 수가 정해져 있다.
+ */
+@Component
+public class AuthMetrics {
+
+    public static final String NONE = "none";
+    /** {@link BusinessException} 이 아닌 예외의 error_code. 예외 종류는 로그로 확인한다 */
+    public static final String INTERNAL = "internal";
+
+    private static final List<String> FILTER_OUTCOMES =
+            List.of("no_token", "cache_hit", "authenticated", "unknown_user", "not_access_token");
+
+    private final MeterRegistry meterRegistry;
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        // 요청마다 지나는 필터 결과는 미리 등록한다
+        for (String outcome : FILTER_OUTCOMES) {
+            timer("auth.filter", "outcome", outcome, null, NONE);
+        }
+    }
+
+    public <T> T flow(String flow, Supplier<T> work) {
+        return record("auth.flow", "flow", flow, work);
+    }
+
+    public void flow(String flow, Runnable work) {
+        record("auth.flow", "flow", flow, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * 구독부터 완료/실패까지를 기록. 취소되면 result=cancelled
+     */
+    public <T> Mono<T> flow(String flow, Mono<T> work) {
+        return record("auth.flow", "flow", flow, work);
+    }
+
+    public <T> T stage(String stage, Supplier<T> work) {
+        return record("auth.stage", "stage", stage, work);
+    }
+
+    public void stage(String stage, Runnable work) {
+        record("auth.stage", "stage", stage, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public <T> Mono<T> stage(String stage, Mono<T> work) {
+        return record("auth.stage", "stage", stage, work);
+    }
+
+    /**
+     * 필터 결과 기록
+     *
+     * @param outcome   no_token, cache_hit, authenticated, unknown_user, not_access_token, rejected, error
+     * @param errorCode 거부 사유 코드, 없으면 {@link #NONE}
+     */
+    public void filter(String outcome, String errorCode, long elapsedNanos) {
+        timer("auth.filter", "outcome", outcome, null, errorCode).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public static String errorCode(Throwable e) {
+        if (e instanceof BusinessException be) {
+            return be.getErrorCode().getCode();
+        }
+        return INTERNAL;
+    }
+
+    private <T> T record(String name, String key, String value, Supplier<T> work) {
+        long start = System.nanoTime();
+        String result = "success";
+        String errorCode = NONE;
+        try {
+            return work.get();
+        } catch (RuntimeException e) {
+            result = "error";
+            errorCode = errorCode(e);
+            throw e;
+        } finally {
+            stop(name, key, value, result, errorCode, start);
+        }
+    }
+
+    private <T> Mono<T> record(String name, String key, String value, Mono<T> work) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return work
+                    .doOnSuccess(result -> stop(name, key, value, "success", NONE, start))
+                    .doOnError(e -> stop(name, key, value, "error", errorCode(e), start))
+                    .doOnCancel(() -> stop(name, key, value, "cancelled", NONE, start));
+        });
+    }
+
+    private void stop(String name, String key, String value, String result, String errorCode, long start) {
+        timer(name, key, value, result, errorCode).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param result 없으면 (필터) result 태그를 붙이지 않는다
+     */
+    private Timer timer(String name, String key, String value, String result, String errorCode) {
+        return timers.computeIfAbsent(new MeterKey(name, key, value, result, errorCode), meterKey -> {
+            Timer.Builder builder = Timer.builder(name)
+                    .tag(key, value)
+                    .tag("error_code", errorCode)
+                    .publishPercentileHistogram();
+            if (result != null) {
+                builder.tag("result", result);
+            }
+            return builder.register(meterRegistry);
+        });
+    }
+
+    private record MeterKey(String name, String key, String value, String result, String errorCode) {
+    }
+}
@@ -0,0 +1,110 @@
+package io.resume.make.domain.auth.oidc;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.resume.make.domain.auth.dto.KakaoUserProfile;
+import io.resume.make.domain.auth.exception.OAuthErrorCode;
+import io.resume.make.global.exception.BusinessException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 카카오 OIDC id_token 검증.
+ * <p>
+ * {@link KakaoJwksCache} 의 공개키로 서명을 확인하고 iss, aud(REST API 키), exp 를 검사한 뒤
+ * sub/email/nickname claim 으로 프로필을 만든다. 네트워크를 타지 않으므로 로그인에서 사용자 정보 API 호출 한 번을 줄인다.
+ * <p>
+ * id_token 이 없거나(OIDC 미활성 앱) 아직 모르는 키로 서명됐으면 empty 를 돌려주고 호출자가 사용자 정보 API 로 조회한다.
+ * 결과는 {@code kakao.oidc.id_token{result=ok|absent|unknown_key|invalid}} 로 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KakaoIdTokenVerifier {
+
+    private final KakaoJwksCache jwksCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kakao.oidc.enabled:false}")
+    private boolean enabled;
+
+    @Value("${kakao.oidc.issuer:${kakao.login.uri.base}}")
+    private String issuer;
+
+    @Value("${kakao.login.api_key}")
+    private String audience;
+
+    @Value("${kakao.oidc.clock-skew:PT1M}")
+    private Duration clockSkew;
+
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        this.parser = Jwts.parser()
+                .keyLocator(header -> {
+                    String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+                    return jwksCache.key(kid).orElseThrow(UnknownKeyException::new);
+                })
+                .requireIssuer(issuer)
+                .requireAudience(audience)
+                .clockSkewSeconds(clockSkew.toSeconds())
+                .build();
+    }
+
+    /**
+     * @return 검증한 프로필. 꺼져 있거나 id_token 이 없거나 서명 키를 아직 모르면 empty
+     * @throws BusinessException 서명, 발급자, 대상, 만료 검증에 실패하면 INVALID_ID_TOKEN
+     */
+    public Optional<KakaoUserProfile> verify(String idToken) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        if (idToken == null || idToken.isBlank()) {
+            count("absent");
+            return Optional.empty();
+        }
+        try {
+            Claims claims = parser.parseSignedClaims(idToken).getPayload();
+            if (claims.getSubject() == null) {
+                throw new JwtException("sub claim is missing");
+            }
+            count("ok");
+            return Optional.of(new KakaoUserProfile(
+                    claims.getSubject(),
+                    claims.get("email", String.class),
+                    claims.get("nickname", String.class)));
+        } catch (UnknownKeyException e) {
+            count("unknown_key");
+            log.info("Kakao id_token signed with an unknown key, falling back to user info API");
+            return Optional.empty();
+        } catch (JwtException | IllegalArgumentException e) {
+            count("invalid");
+            log.warn("Kakao id_token rejected: {}", e.getMessage());
+            throw new BusinessException(OAuthErrorCode.INVALID_ID_TOKEN);
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("kakao.oidc.id_token", "result", result).increment();
+    }
+
+    /**
+     * JWKS 에 아직 없는 kid. 검증 실패가 아니라 사용자 정보 API 로 대체할 경우다.
+     */
+    private static class UnknownKeyException extends RuntimeException {
+        UnknownKeyException() {
+            super(null, null, false, false);
+        }
+    }
+}
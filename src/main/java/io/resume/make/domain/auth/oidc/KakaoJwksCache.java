@@ -0,0 +1,121 @@
+package io.resume.make.domain.auth.oidc;
+
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카카오 OIDC 공개키(JWKS) 캐시.
+ * <p>
+ * {@code refresh-interval} 마다 백그라운드에서 다시 받아 통째로 교체하므로 로그인 요청은 메모리 조회만 한다.
+ * 모르는 kid 가 오면(키 교체 직후) 비동기로 한 번 더 받아 오되, {@code min-refresh-interval} 안에는 다시 요청하지 않는다.
+ * 받아 오지 못하면 기존 키를 그대로 쓴다. 결과는 {@code kakao.oidc.jwks.refresh{result}} 로 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KakaoJwksCache {
+
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kakao.oidc.enabled:false}")
+    private boolean enabled;
+
+    @Value("${kakao.oidc.jwks-uri:${kakao.login.uri.base}/.well-known/jwks.json}")
+    private String jwksUri;
+
+    @Value("${kakao.oidc.jwks.min-refresh-interval:PT1M}")
+    private Duration minRefreshInterval;
+
+    @Value("${kakao.oidc.jwks.timeout:PT5S}")
+    private Duration timeout;
+
+    private volatile Map<String, Key> keys = Map.of();
+    private final AtomicLong lastAttempt = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        lastAttempt.set(System.nanoTime() - minRefreshInterval.toNanos());
+        Gauge.builder("kakao.oidc.jwks.keys", this, cache -> cache.keys.size()).register(meterRegistry);
+    }
+
+    /**
+     * kid 에 해당하는 공개키. 없으면 비동기로 다시 받아 오도록 요청하고 empty
+     */
+    public Optional<Key> key(String kid) {
+        Key key = kid == null ? null : keys.get(kid);
+        if (key == null) {
+            requestRefresh();
+        }
+        return Optional.ofNullable(key);
+    }
+
+    @Scheduled(fixedDelayString = "${kakao.oidc.jwks.refresh-interval:PT1H}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        lastAttempt.set(System.nanoTime());
+        try {
+            fetch().block();
+        } catch (RuntimeException e) {
+            // fetch 에서 기록했다
+        }
+    }
+
+    void requestRefresh() {
+        long last = lastAttempt.get();
+        long now = System.nanoTime();
+        if (!enabled || now - last < minRefreshInterval.toNanos() || !lastAttempt.compareAndSet(last, now)) {
+            return;
+        }
+        fetch().subscribe(ignored -> { }, e -> { });
+    }
+
+    private Mono<Map<String, Key>> fetch() {
+        return webClient.get()
+                .uri(jwksUri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(timeout)
+                .map(KakaoJwksCache::parse)
+                .doOnNext(fetched -> {
+                    this.keys = fetched;
+                    meterRegistry.counter("kakao.oidc.jwks.refresh", "result", "ok").increment();
+                    log.debug("Kakao JWKS refreshed: {}", fetched.keySet());
+                })
+                .doOnError(e -> {
+                    meterRegistry.counter("kakao.oidc.jwks.refresh", "result", "error").increment();
+                    log.warn("Failed to refresh Kakao JWKS from {}: {}", jwksUri, e.toString());
+                });
+    }
+
+    static Map<String, Key> parse(String json) {
+        JwkSet set = Jwks.setParser().build().parse(json);
+        Map<String, Key> parsed = new HashMap<>();
+        for (Jwk<?> jwk : set) {
+            if (jwk.getId() != null) {
+                parsed.put(jwk.getId(), jwk.toKey());
+            }
+        }
+        return Map.copyOf(parsed);
+    }
+}
@@ -5,14 +5,26 @@ import io.resume.make.domain.auth.entity.BlacklistedRefreshToken;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.stream.Stream;
 
 public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedRefreshToken, Long> {
     boolean existsByTokenHash(byte[] tokenHash);
 
+    long countByExpiredAtAfter(LocalDateTime now);
+
+    @Query("select b.tokenHash from BlacklistedRefreshToken b where b.expiredAt > :now")
+    Stream<byte[]> streamTokenHashesByExpiredAtAfter(@Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 행을 최대 limit 개 삭제. 엔티티를 읽지 않고 한 문장으로 지운다.
+     */
     @Modifying
     @Transactional
-    void deleteAllByExpiredAtBefore(LocalDateTime now);
+    @Query(value = "DELETE FROM blacklisted_refresh_token WHERE expired_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
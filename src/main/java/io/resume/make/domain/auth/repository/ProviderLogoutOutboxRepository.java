@@ -0,0 +1,33 @@
+package io.resume.make.domain.auth.repository;
+
+import io.resume.make.domain.auth.entity.ProviderLogoutOutbox;
+import io.resume.make.domain.auth.entity.ProviderLogoutOutbox.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProviderLogoutOutboxRepository extends JpaRepository<ProviderLogoutOutbox, Long> {
+
+    /**
+     * 처리할 차례가 된 행을 오래된 순으로
+     */
+    List<ProviderLogoutOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+            Status status, LocalDateTime now, Pageable pageable);
+
+    long countByStatus(Status status);
+
+    /**
+     * before 이전에 만든 DEAD 행을 최대 limit 개 삭제
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM provider_logout_outbox WHERE status = 'DEAD' AND created_at < :before LIMIT :limit",
+            nativeQuery = true)
+    int deleteDeadBatch(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,221 @@
+package io.resume.make.domain.auth.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.resume.make.domain.auth.exception.OAuthErrorCode;
+import io.resume.make.global.exception.BusinessException;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 카카오 API 호출 보호 계층.
+ * <p>
+ * 엔드포인트마다 따로 아래를 적용한다.
+ * <ul>
+ *     <li>시도마다 짧은 timeout</li>
+ *     <li>circuit breaker ({@code resilience4j.circuitbreaker.instances.kakao-*}): 카카오 장애 시 바로 실패시킨다</li>
+ *     <li>bulkhead ({@code resilience4j.bulkhead.instances.kakao-*}): 동시 호출 수를 제한한다</li>
+ *     <li>{@link RetryBudget} 안에서만 하는 재시도</li>
+ *     <li>사용자 정보 조회는 첫 시도가 {@code hedge-delay} 안에 끝나지 않으면 같은 요청을 한 번 더 보내고 먼저 온 응답을 쓴다.
+ *     hedge 도 재시도 예산을 하나 쓰고, 재시도에는 hedging 하지 않는다</li>
+ * </ul>
+ * 토큰 교환은 인가 코드가 1회용이라 요청이 전달되지 않은 연결 실패만 재시도하고 hedging 하지 않는다.
+ * 4xx 는 재시도하지 않고 circuit breaker 실패로도 세지 않는다.
+ * <p>
+ * 재시도와 hedging 횟수는 {@code kakao.api.retries{endpoint,result}}, {@code kakao.api.hedges{endpoint}} 로 기록한다.
+ * circuit breaker/bulkhead 상태는 resilience4j 메트릭과 {@code /actuator/circuitbreakers} 로 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KakaoResilience {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kakao.resilience.token.timeout:PT3S}")
+    private Duration tokenTimeout;
+
+    @Value("${kakao.resilience.user-info.timeout:PT2S}")
+    private Duration userInfoTimeout;
+
+    @Value("${kakao.resilience.user-info.hedge-delay:PT0.5S}")
+    private Duration hedgeDelay;
+
+    @Value("${kakao.resilience.logout.timeout:PT3S}")
+    private Duration logoutTimeout;
+
+    @Value("${kakao.resilience.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${kakao.resilience.backoff:PT0.2S}")
+    private Duration backoff;
+
+    @Value("${kakao.resilience.retry-budget.ratio:0.1}")
+    private double budgetRatio;
+
+    @Value("${kakao.resilience.retry-budget.min-per-second:1}")
+    private int budgetMinPerSecond;
+
+    private final Map<Endpoint, RetryBudget> budgets = new EnumMap<>(Endpoint.class);
+
+    @PostConstruct
+    public void init() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            budgets.put(endpoint, new RetryBudget(budgetRatio, budgetMinPerSecond));
+        }
+    }
+
+    /**
+     * 카카오 호출에 timeout, bulkhead, circuit breaker, 재시도, hedging 을 적용한다.
+     * 차단되면 {@link OAuthErrorCode#KAKAO_API_UNAVAILABLE}, 시간 초과면 {@link OAuthErrorCode#KAKAO_API_TIMEOUT}.
+     *
+     * @param call 구독할 때마다 요청을 새로 보내는 Mono 를 만든다
+     */
+    public <T> Mono<T> decorate(Endpoint endpoint, Supplier<Mono<T>> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(endpoint.getInstance());
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(endpoint.getInstance());
+        RetryBudget budget = budgets.get(endpoint);
+
+        // 1. 시도 한 번: bulkhead 에 막히면 circuit breaker 에 기록하지 않는다
+        Mono<T> attempt = Mono.defer(call)
+                .timeout(timeout(endpoint))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead));
+
+        boolean hedging = endpoint == Endpoint.USER_INFO && hedgeDelay.isPositive();
+
+        return Mono.defer(() -> {
+                    // 2. 첫 시도만 hedging. 예산 적립도 요청당 한 번
+                    budget.onRequest();
+                    AtomicBoolean first = new AtomicBoolean(true);
+                    return Mono.defer(() -> first.getAndSet(false) && hedging ? hedge(endpoint, budget, attempt) : attempt)
+                            // 3. 예산 안에서 재시도
+                            .retryWhen(Retry.backoff(maxRetries, backoff)
+                                    .filter(e -> allowRetry(endpoint, budget, e))
+                                    .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+                })
+                .onErrorMap(KakaoResilience::translate);
+    }
+
+    /**
+     * 첫 시도가 끝나기 전에 {@code hedge-delay} 가 지나고 예산이 있을 때만 한 번 더 보낸다.
+     * 첫 시도가 먼저 끝나면 (성공이든 실패든) 대기 타이머를 취소한다.
+     */
+    private <T> Mono<T> hedge(Endpoint endpoint, RetryBudget budget, Mono<T> attempt) {
+        Sinks.One<Boolean> primaryDone = Sinks.one();
+        Mono<T> primary = attempt.doFinally(signal -> primaryDone.tryEmitValue(true));
+        Mono<T> backup = Mono.delay(hedgeDelay)
+                .takeUntilOther(primaryDone.asMono())
+                .filter(tick -> budget.tryAcquire())
+                .flatMap(tick -> {
+                    meterRegistry.counter("kakao.api.hedges", "endpoint", endpoint.getInstance()).increment();
+                    return attempt;
+                });
+        // 둘 다 값 없이 끝나면 firstWithValue 는 NoSuchElementException 으로 감싸므로 첫 시도의 오류로 되돌린다
+        return Mono.firstWithValue(primary, backup)
+                .onErrorMap(NoSuchElementException.class, e -> {
+                    List<Throwable> errors = Exceptions.unwrapMultiple(e.getCause());
+                    return errors.isEmpty() ? e : errors.get(0);
+                });
+    }
+
+    private boolean allowRetry(Endpoint endpoint, RetryBudget budget, Throwable e) {
+        if (!endpoint.getRetryable().test(e)) {
+            return false;
+        }
+        boolean allowed = budget.tryAcquire();
+        meterRegistry.counter("kakao.api.retries",
+                "endpoint", endpoint.getInstance(),
+                "result", allowed ? "retried" : "budget_exhausted").increment();
+        if (!allowed) {
+            log.warn("Kakao {} retry budget exhausted: {}", endpoint.getInstance(), e.toString());
+        }
+        return allowed;
+    }
+
+    private Duration timeout(Endpoint endpoint) {
+        return switch (endpoint) {
+            case TOKEN -> tokenTimeout;
+            case USER_INFO -> userInfoTimeout;
+            case LOGOUT -> logoutTimeout;
+        };
+    }
+
+    private static Throwable translate(Throwable e) {
+        if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+            log.warn("Kakao API call rejected: {}", e.getMessage());
+            return new BusinessException(OAuthErrorCode.KAKAO_API_UNAVAILABLE);
+        }
+        if (e instanceof TimeoutException) {
+            return new BusinessException(OAuthErrorCode.KAKAO_API_TIMEOUT);
+        }
+        return e;
+    }
+
+    /**
+     * 카카오 쪽 장애로 볼 오류인지. 4xx 는 요청 문제이므로 포함하지 않는다.
+     */
+    static boolean isServerFailure(Throwable e) {
+        return e instanceof TimeoutException
+                || e instanceof WebClientRequestException
+                || (e instanceof BusinessException be && be.getErrorCode() == OAuthErrorCode.KAKAO_SERVER_ERROR);
+    }
+
+    /**
+     * 요청이 카카오에 도달하지 않은 연결 실패인지
+     */
+    static boolean isConnectFailure(Throwable e) {
+        return e instanceof WebClientRequestException && e.getCause() instanceof ConnectException;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Endpoint {
+        /** 인가 코드는 1회용이므로 연결 실패만 재시도 */
+        TOKEN("kakao-token", KakaoResilience::isConnectFailure),
+        USER_INFO("kakao-user-info", KakaoResilience::isServerFailure),
+        LOGOUT("kakao-logout", KakaoResilience::isServerFailure);
+
+        private final String instance;
+        private final Predicate<Throwable> retryable;
+    }
+
+    /**
+     * circuit breaker 의 {@code record-failure-predicate}. 카카오 쪽 장애만 실패로 센다.
+     */
+    public static class FailurePredicate implements Predicate<Throwable> {
+        @Override
+        public boolean test(Throwable e) {
+            return isServerFailure(e);
+        }
+    }
+}
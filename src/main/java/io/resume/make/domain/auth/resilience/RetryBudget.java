@@ -0,0 +1,67 @@
+package io.resume.make.domain.auth.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 예산.
+ * <p>
+ * 요청마다 {@code ratio} 만큼 적립하고 재시도 한 번에 1 을 쓴다. 따라서 평소에는 재시도가 전체 요청의
+ * {@code ratio} 비율을 넘지 않고, 장애가 길어져도 재시도가 트래픽을 몇 배로 불리지 않는다.
+ * 요청이 적을 때도 재시도할 수 있도록 초당 {@code minPerSecond} 만큼은 시간에 따라 채운다.
+ */
+class RetryBudget {
+
+    private static final long UNIT = 1_000;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long depositPerRequest;
+    private final long refillPerSecond;
+    private final long capacity;
+    private final AtomicLong balance;
+    private final AtomicLong lastRefill;
+
+    RetryBudget(double ratio, int minPerSecond) {
+        this.depositPerRequest = Math.round(ratio * UNIT);
+        this.refillPerSecond = minPerSecond * UNIT;
+        // 1초 분량의 최소 재시도와 10 회 분량 중 큰 쪽까지만 쌓는다
+        this.capacity = Math.max(refillPerSecond, 10 * UNIT);
+        this.balance = new AtomicLong(refillPerSecond);
+        this.lastRefill = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * 첫 시도마다 호출
+     */
+    void onRequest() {
+        deposit(depositPerRequest);
+    }
+
+    /**
+     * 재시도 한 번을 쓸 수 있으면 차감하고 true
+     */
+    boolean tryAcquire() {
+        refill();
+        while (true) {
+            long current = balance.get();
+            if (current < UNIT) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - UNIT)) {
+                return true;
+            }
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        long last = lastRefill.get();
+        long amount = (now - last) * refillPerSecond / NANOS_PER_SECOND;
+        if (amount > 0 && lastRefill.compareAndSet(last, now)) {
+            deposit(amount);
+        }
+    }
+
+    private void deposit(long amount) {
+        balance.accumulateAndGet(amount, (current, added) -> Math.min(capacity, current + added));
+    }
+}
@@ -1,21 +1,32 @@
 package io.resume.make.domain.auth.service;
 
 import io.resume.make.domain.auth.dto.KakaoTokenResponse;
+import io.resume.make.domain.auth.dto.KakaoUserInfo;
+import io.resume.make.domain.auth.dto.KakaoUserProfile;
 import io.resume.make.domain.auth.dto.LoginResponse;
 import io.resume.make.domain.auth.exception.OAuthErrorCode;
+import io.resume.make.domain.auth.filter.AccessTokenCache;
+import io.resume.make.domain.auth.logout.LogoutOutbox;
+import io.resume.make.domain.auth.metrics.AuthMetrics;
+import io.resume.make.domain.auth.oidc.KakaoIdTokenVerifier;
 import io.resume.make.domain.user.entity.User;
 import io.resume.make.domain.user.repository.UserRepository;
+import io.resume.make.domain.user.repository.UserUpsertRepository;
+import io.resume.make.domain.user.repository.UserUpsertRepository.UpsertResult;
+import io.resume.make.domain.user.service.UserCacheService;
 import io.resume.make.global.exception.BusinessException;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
-import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -25,104 +36,156 @@ public class AuthFacadeService {
 
     private final UserRepository userRepository;
     private final KakaoOAuthService kakaoOAuthService;
+    private final KakaoIdTokenVerifier kakaoIdTokenVerifier;
     private final TokenService tokenService;
     private final StateManager stateManager;
+    private final AccessTokenCache accessTokenCache;
+    private final UserCacheService userCacheService;
+    private final LogoutOutbox logoutOutbox;
+    private final AuthMetrics authMetrics;
+    private final Scheduler authDbScheduler;
 
     /** 카카오 로그인 처리
      * @param code code
      * @param state state
      * @param codeVerifier front에서 줘야 하는 pkce
      * @param redirectUri redirecturi
-     * @param response 로그인 응답 dto
      * @return 로그인 사용자 서비스 토큰 생성
      */
-    public LoginResponse processKakaoLogin(String code, String state, String codeVerifier, String redirectUri, HttpServletResponse response) {
+    public LoginResponse processKakaoLogin(String code, String state, String codeVerifier, String redirectUri) {
         log.info("processing kakao login: code: {}, state: {}, codeVerifier: {}, redirectUri: {}", code, state, codeVerifier, redirectUri);
+        return authMetrics.flow("login", () -> {
+            String storedCodeChallenge = authMetrics.stage("state", () -> stateManager.validateAndConsumeState(state));
 
-        String storedCodeChallenge = stateManager.validateAndConsumeState(state);
+            if (!verifyPkce(codeVerifier, storedCodeChallenge)) {
+                log.error("PKCE verification failed");
+                throw new BusinessException(OAuthErrorCode.INVALID_CODE_VERIFIER);
+            }
+            stateManager.markStateUsed(state);
+            KakaoTokenResponse tokenResponse = authMetrics.stage("token_exchange",
+                    () -> kakaoOAuthService.exchangeKakaoToken(code, codeVerifier, redirectUri));
+
+            // 카카오 토큰으로 사용자 정보 요청 및 처리
+            String accessToken = tokenResponse!= null ? tokenResponse.accessToken() : null;
+            if (accessToken == null) {
+                log.error("Failed to get access token from Kakao");
+                throw new BusinessException(OAuthErrorCode.KAKAO_TOKEN_EXCHANGE_FAILED);
+            }
 
-        if (!verifyPkce(codeVerifier, storedCodeChallenge)) {
-            log.error("PKCE verification failed");
-            throw new BusinessException(OAuthErrorCode.INVALID_CODE_VERIFIER);
-        }
-        KakaoTokenResponse tokenResponse = kakaoOAuthService.exchangeKakaoToken(code, codeVerifier, redirectUri);
+            // 사용자 정보: OIDC id_token 을 검증할 수 있으면 그 claim 을 쓰고, 아니면 사용자 정보 API 조회
+            KakaoUserProfile profile = authMetrics.stage("id_token", () -> kakaoIdTokenVerifier.verify(tokenResponse.idToken()))
+                    .orElseGet(() -> {
+                        KakaoUserInfo userInfo = authMetrics.stage("user_info", () -> kakaoOAuthService.getUserInfo(accessToken));
+                        if (userInfo == null) {
+                            log.error("Kakao user info is null");
+                            throw new BusinessException(OAuthErrorCode.KAKAO_USER_INFO_FAILED);
+                        }
+                        return toProfile(userInfo);
+                    });
+            User user = authMetrics.stage("user_upsert", () -> saveOrUpdateKakaoUser(profile));
+
+            // return: 로그인 사용자 서비스 토큰 생성
+            return authMetrics.stage("token_issue", () -> tokenService.issueTokens(user));
+        });
+    }
 
-        // 카카오 토큰으로 사용자 정보 요청 및 처리
-        String accessToken = tokenResponse!= null ? tokenResponse.accessToken() : null;
-        if (accessToken == null) {
-            log.error("Failed to get access token from Kakao");
-            throw new BusinessException(OAuthErrorCode.KAKAO_TOKEN_EXCHANGE_FAILED);
-        }
+    /**
+     * {@link #processKakaoLogin} 의 non-blocking 버전.
+     * state 확인과 카카오 호출은 요청 스레드를 붙잡지 않고, 회원 저장과 JWT 발급만 {@code authDbScheduler} 에서 실행한다.
+     */
+    public Mono<LoginResponse> processKakaoLoginReactive(String code, String state, String codeVerifier, String redirectUri) {
+        log.info("processing kakao login (reactive): state: {}, redirectUri: {}", state, redirectUri);
+        Mono<LoginResponse> login = authMetrics.stage("state", stateManager.validateAndConsumeStateReactive(state))
+                .flatMap(storedCodeChallenge -> {
+                    if (!verifyPkce(codeVerifier, storedCodeChallenge)) {
+                        log.error("PKCE verification failed");
+                        return Mono.error(new BusinessException(OAuthErrorCode.INVALID_CODE_VERIFIER));
+                    }
+                    stateManager.markStateUsed(state);
+                    return authMetrics.stage("token_exchange",
+                            kakaoOAuthService.exchangeKakaoTokenReactive(code, codeVerifier, redirectUri));
+                })
+                .filter(tokenResponse -> tokenResponse.accessToken() != null)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.error("Failed to get access token from Kakao");
+                    return new BusinessException(OAuthErrorCode.KAKAO_TOKEN_EXCHANGE_FAILED);
+                }))
+                // id_token 검증은 캐시된 JWKS 로 로컬에서 끝나므로 별도 스케줄러 없이 실행한다
+                .flatMap(tokenResponse -> Mono.fromCallable(() ->
+                                authMetrics.stage("id_token", () -> kakaoIdTokenVerifier.verify(tokenResponse.idToken())).orElse(null))
+                        .switchIfEmpty(Mono.defer(() -> authMetrics.stage("user_info", kakaoOAuthService.getUserInfoReactive(tokenResponse.accessToken()))
+                                .switchIfEmpty(Mono.error(() -> {
+                                    log.error("Kakao user info is null");
+                                    return new BusinessException(OAuthErrorCode.KAKAO_USER_INFO_FAILED);
+                                }))
+                                .map(AuthFacadeService::toProfile))))
+                .flatMap(profile -> authMetrics.stage("user_upsert",
+                        Mono.fromCallable(() -> saveOrUpdateKakaoUser(profile)).subscribeOn(authDbScheduler)))
+                .map(user -> authMetrics.stage("token_issue", () -> tokenService.issueTokens(user)));
+        return authMetrics.flow("login", login);
+    }
+
+    /**
+     * 로그인 응답에 담을 refresh 토큰 쿠키. 응답 객체는 요청 스레드(컨트롤러)에서만 쓴다
+     */
+    public HttpHeaders loginCookieHeaders(LoginResponse login) {
+        return tokenService.refreshTokenCookieHeaders(login.refreshToken());
+    }
 
-        // 사용자 정보 조회 및 처리
-        Map<String, Object> userInfo = kakaoOAuthService.getUserInfo(accessToken);
-        if(userInfo == null) {
-            log.error("Kakao user info is null");
+    /**
+     * 사용자 정보 API(/v2/user/me) 응답을 회원 저장용 프로필로 변환
+     */
+    private static KakaoUserProfile toProfile(KakaoUserInfo userInfo) {
+        if (userInfo.id() == null) {
+            log.error("Kakao user id is missing");
             throw new BusinessException(OAuthErrorCode.KAKAO_USER_INFO_FAILED);
         }
-        User user = saveOrUpdateKakaoUser(userInfo);
-
-        // return: 로그인 사용자 서비스 토큰 생성
-        return tokenService.issueTokens(user, response);
+        return new KakaoUserProfile(String.valueOf(userInfo.id()), userInfo.email(), userInfo.nickname());
     }
 
-    private User saveOrUpdateKakaoUser(Map<String, Object> userInfo) {
-        Object providerIdObj = userInfo.get("id");
-        if (!(providerIdObj instanceof Number providerIdNumber)) {
-            log.error("Kakao user id is missing or invalid: {}", providerIdObj);
-            throw new BusinessException(OAuthErrorCode.KAKAO_USER_INFO_FAILED);
+    private User saveOrUpdateKakaoUser(KakaoUserProfile profile) {
+        String providerId = profile.providerId();
+        String email = profile.email();
+        String name = profile.nickname();
+
+        // 조회 후 값이 바뀐 경우에만 upsert 한 문장으로 기록 (동시 최초 로그인에도 unique 위반 없음)
+        // id_token 에 없는 claim 은 null 로 넘기고 저장된 값을 쓴다
+        UpsertResult result = userRepository.upsert("kakao", providerId, email, name);
+        User user = User.builder()
+                .provider("kakao")
+                .providerId(providerId)
+                .email(result.email())
+                .name(result.name())
+                .build();
+        user.setId(result.id());
+        if (result.status() != UserUpsertRepository.Status.UNCHANGED) {
+            userCacheService.put(user);
         }
-        String providerId = String.valueOf(providerIdNumber.longValue());
-
-        Map<String, Object> account = (Map<String, Object>) userInfo.getOrDefault("kakao_account", Map.of());
-        String name = extractNickname(account);
-        String email = account != null ? (String) account.get("email") : null;
-
-        User user = userRepository.findByProviderAndProviderId("kakao", providerId)
-                .orElseGet(() -> User.builder()
-                        .provider("kakao")
-                        .providerId(providerId)
-                        .email(email)
-                        .name(name)
-                        .build()
-                );
-        user.updateName(name);
-        return userRepository.save(user);
+        return user;
     }
 
     public LoginResponse refreshToken(String refreshToken, HttpServletResponse response) {
-        return tokenService.refreshTokens(refreshToken, response);
+        return authMetrics.flow("refresh", () -> tokenService.refreshTokens(refreshToken, response));
     }
 
     public void logout(String refreshToken, HttpServletResponse response) {
-        UUID userId = tokenService.revokeRefreshToken(refreshToken, response);
-        if (userId == null) {
-            return;
-        }
-
-        userRepository.findById(userId).ifPresent(user -> {
-            if ("kakao".equalsIgnoreCase(user.getProvider()) && user.getProviderId() != null) {
-                kakaoOAuthService.logoutKakaoUser(user.getProviderId());
+        authMetrics.flow("logout", () -> {
+            UUID userId = authMetrics.stage("token_revoke", () -> tokenService.revokeRefreshToken(refreshToken, response));
+            if (userId == null) {
+                return;
             }
+            accessTokenCache.invalidateUser(userId);
+
+            // 카카오 로그아웃은 outbox 에 기록만 하고 ProviderLogoutWorker 가 비동기로 호출한다
+            userCacheService.findById(userId).ifPresent(user -> {
+                if ("kakao".equalsIgnoreCase(user.provider()) && user.providerId() != null) {
+                    authMetrics.stage("logout_enqueue", () -> logoutOutbox.enqueue("kakao", user.providerId()));
+                }
+            });
         });
     }
 
-    private String extractNickname(Map<String, Object> account) {
-        if (account == null) {
-            return null;
-        }
-        Object profileObj = account.get("profile");
-        if (profileObj instanceof Map<?,?> profile) {
-            Object nickname = profile.get("nickname");
-            if (nickname instanceof String nick) {
-                return nick;
-            }
-        }
-        Object directNickname = account.get("nickname");
-        return directNickname instanceof String nick ? nick : null;
-    }
-
-    private boolean verifyPkce(String codeVerifier, String storedCodeChallenge) {
+    static boolean verifyPkce(String codeVerifier, String storedCodeChallenge) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             byte[] hash = digest.digest(codeVerifier.getBytes(StandardCharsets.UTF_8));
@@ -3,6 +3,7 @@ package io.resume.make.domain.auth.service;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 
@@ -34,6 +35,17 @@ public class CookieManager {
                 .build();
     }
 
+    /**
+     * 컨트롤러가 {@code ResponseEntity} 에 담을 refresh 토큰 쿠키 헤더. 쿠키를 쓰지 않으면 빈 헤더
+     */
+    public HttpHeaders refreshTokenHeaders(String refreshToken, long maxAgeSeconds) {
+        HttpHeaders headers = new HttpHeaders();
+        if (useCookie) {
+            headers.add(HttpHeaders.SET_COOKIE, createRefreshTokenCookie(refreshToken, maxAgeSeconds).toString());
+        }
+        return headers;
+    }
+
     public void addCookie(HttpServletResponse response, ResponseCookie cookie) {
         if (useCookie) {
             response.addHeader("Set-Cookie", cookie.toString());
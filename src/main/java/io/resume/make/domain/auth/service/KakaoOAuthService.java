@@ -1,14 +1,20 @@
 package io.resume.make.domain.auth.service;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.resume.make.domain.auth.dto.KakaoTokenResponse;
+import io.resume.make.domain.auth.dto.KakaoUserInfo;
 import io.resume.make.domain.auth.exception.OAuthErrorCode;
+import io.resume.make.domain.auth.resilience.KakaoResilience;
+import io.resume.make.domain.auth.resilience.KakaoResilience.Endpoint;
 import io.resume.make.domain.user.repository.UserRepository;
 import io.resume.make.global.exception.BusinessException;
 import io.resume.make.global.response.GlobalErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
@@ -17,9 +23,10 @@ import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
-import reactor.util.retry.Retry;
+import reactor.core.publisher.Mono;
 
-import java.time.Duration;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -28,9 +35,15 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class KakaoOAuthService {
 
+    // 필요한 필드만 있는 record 로 바로 읽고 나머지 하위 트리는 파서가 건너뛴다. 설정이 끝난 reader 는 스레드 안전하다
+    private static final ObjectReader USER_INFO_READER = new ObjectMapper()
+            .readerFor(KakaoUserInfo.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
     private final UserRepository userRepository;
     private final WebClient webClient;
     private final StateManager stateManager;
+    private final KakaoResilience kakaoResilience;
 
     @Value("${kakao.login.api_key}")
     private String apiKey;
@@ -41,6 +54,9 @@ public class KakaoOAuthService {
     @Value("${kakao.login.uri.base}")
     private String kakaoBaseUri;
 
+    @Value("${kakao.api.uri.base:https://kapi.kakao.com}")
+    private String kakaoApiBaseUri;
+
     @Value("${kakao.login.admin_key:}")
     private String adminKey;
 
@@ -53,13 +69,13 @@ public class KakaoOAuthService {
      * @return
      */
     public Map<String, String> getKakaoUrl(String redirectUri, String codeChallenge) {
-        String state = stateManager.generateAndStoreState(codeChallenge);
-        log.debug("State generated");
-
         if (!allowedRedirectUris.contains(redirectUri)) {
             throw new BusinessException(GlobalErrorCode.INVALID_REDIRECT_URI);
         }
 
+        String state = stateManager.generateAndStoreState(codeChallenge);
+        log.debug("State generated");
+
         String kakaoAuthUrl = UriComponentsBuilder.fromUriString(kakaoBaseUri)
                 .path("/oauth/authorize")
                 .queryParam("client_id", apiKey)
@@ -84,6 +100,13 @@ public class KakaoOAuthService {
      * @return
      */
     public KakaoTokenResponse exchangeKakaoToken(String code, String codeVerifier, String redirectUri) {
+        return exchangeKakaoTokenReactive(code, codeVerifier, redirectUri).block();
+    }
+
+    /**
+     * {@link #exchangeKakaoToken} 의 non-blocking 버전. 구독해야 요청을 보낸다.
+     */
+    public Mono<KakaoTokenResponse> exchangeKakaoTokenReactive(String code, String codeVerifier, String redirectUri) {
         String tokenUrl = UriComponentsBuilder.fromUriString(kakaoBaseUri)
                 .path("/oauth/token")
                 .build()
@@ -100,47 +123,58 @@ public class KakaoOAuthService {
         params.add("client_secret", clientSecret);
         params.add("code_verifier", codeVerifier);
 
-        try {
-            return webClient.post()
-                    .uri(tokenUrl)
-                    .header("Content-Type", "application/x-www-form-urlencoded")
-                    .body(BodyInserters.fromFormData(params))
-                    .retrieve()
-                    .onStatus(
-                            status -> status.is4xxClientError(),
-                            response -> response.bodyToMono(String.class)
-                                    .map(body -> {
-                                        log.error("kakao token exchange failed(4xx): {}", body);
-                                        return new BusinessException(OAuthErrorCode.INVALID_AUTHORIZATION_CODE);
-                                    })
-                    )
-                    .onStatus(
-                            status -> status.is5xxServerError(),
-                            response -> response.bodyToMono(String.class)
-                                    .map(body -> {
-                                        log.error("kakao server error(5xx): {}", body);
-                                        return new BusinessException(OAuthErrorCode.KAKAO_SERVER_ERROR);
-                                    })
-                    )
-                    .bodyToMono(KakaoTokenResponse.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
-                            .filter(throwable -> !(throwable instanceof BusinessException)))
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("WebClient error during token exchange: status={}, body={}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new BusinessException(OAuthErrorCode.KAKAO_TOKEN_EXCHANGE_FAILED);
-        } catch (Exception e) {
-            log.error("Unexpected error during token exchange: {}", e.getMessage());
-            throw new BusinessException(OAuthErrorCode.KAKAO_TOKEN_EXCHANGE_FAILED);
-        }
+        return kakaoResilience.decorate(Endpoint.TOKEN, () -> webClient.post()
+                .uri(tokenUrl)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .body(BodyInserters.fromFormData(params))
+                .retrieve()
+                .onStatus(
+                        status -> status.is4xxClientError(),
+                        response -> response.bodyToMono(String.class)
+                                .map(body -> {
+                                    log.error("kakao token exchange failed(4xx): {}", body);
+                                    return new BusinessException(OAuthErrorCode.INVALID_AUTHORIZATION_CODE);
+                                })
+                )
+                .onStatus(
+                        status -> status.is5xxServerError(),
+                        response -> response.bodyToMono(String.class)
+                                .map(body -> {
+                                    log.error("kakao server error(5xx): {}", body);
+                                    return new BusinessException(OAuthErrorCode.KAKAO_SERVER_ERROR);
+                                })
+                )
+                .bodyToMono(KakaoTokenResponse.class))
+                .onErrorMap(e -> {
+                    // 4xx, 5xx, timeout, circuit open 은 이미 구분된 오류 코드로 바뀌어 있다
+                    if (e instanceof BusinessException) {
+                        return e;
+                    }
+                    if (e instanceof WebClientResponseException we) {
+                        log.error("WebClient error during token exchange: status={}, body={}",
+                                we.getStatusCode(), we.getResponseBodyAsString());
+                    } else {
+                        log.error("Unexpected error during token exchange: {}", e.getMessage());
+                    }
+                    return new BusinessException(OAuthErrorCode.KAKAO_TOKEN_EXCHANGE_FAILED);
+                });
+    }
 
+    public KakaoUserInfo getUserInfo(String accessToken) {
+        return getUserInfoReactive(accessToken).block();
     }
 
-    public Map<String, Object> getUserInfo(String accessToken) {
-        return webClient.get()
-                .uri("https://kapi.kakao.com/v2/user/me")
+    /**
+     * {@link #getUserInfo} 의 non-blocking 버전
+     */
+    public Mono<KakaoUserInfo> getUserInfoReactive(String accessToken) {
+        String userInfoUrl = UriComponentsBuilder.fromUriString(kakaoApiBaseUri)
+                .path("/v2/user/me")
+                .build()
+                .toUriString();
+
+        return kakaoResilience.decorate(Endpoint.USER_INFO, () -> webClient.get()
+                .uri(userInfoUrl)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .header(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded;charset=utf-8")
                 .retrieve()
@@ -162,16 +196,23 @@ public class KakaoOAuthService {
                                     return new BusinessException(OAuthErrorCode.KAKAO_SERVER_ERROR);
                                 })
                 )
-                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
-                })
-                .timeout(Duration.ofSeconds(10))
-                .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
-                        .filter(throwable -> !(throwable instanceof BusinessException)))
-                .block();
+                .bodyToMono(DataBuffer.class)
+                .map(KakaoOAuthService::readUserInfo));
+    }
+
+    static KakaoUserInfo readUserInfo(DataBuffer body) {
+        try (InputStream in = body.asInputStream(true)) {
+            return USER_INFO_READER.readValue(in);
+        } catch (IOException e) {
+            log.error("Failed to decode Kakao user info: {}", e.getMessage());
+            throw new BusinessException(OAuthErrorCode.KAKAO_USER_INFO_FAILED);
+        }
     }
 
     /**
-     * 로그아웃(UNLINK)
+     * 로그아웃. {@code ProviderLogoutWorker} 가 outbox 를 처리하면서 호출한다.
+     *
+     * @throws BusinessException 4xx 면 KAKAO_LOGOUT_FAILED, 그 밖의 실패는 KAKAO_SERVER_ERROR/KAKAO_API_TIMEOUT/KAKAO_API_UNAVAILABLE
      */
     public void logoutKakaoUser(String providerId) {
         if (adminKey == null || adminKey.isBlank()) {
@@ -183,29 +224,37 @@ public class KakaoOAuthService {
         params.add("target_id_type", "user_id");
         params.add("target_id", providerId);
 
-        try {
-            webClient.post()
-                    .uri("https://kapi.kakao.com/v1/user/logout")
-                    .header(HttpHeaders.AUTHORIZATION, "KakaoAK " + adminKey)
-                    .header(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded")
-                    .body(BodyInserters.fromFormData(params))
-                    .retrieve()
-                    .onStatus(
-                            status -> status.is4xxClientError() || status.is5xxServerError(),
-                            response -> response.bodyToMono(String.class)
-                                    .map(body -> {
-                                        log.warn("Failed to logout Kakao user {}: {}", providerId, body);
-                                        return new BusinessException(OAuthErrorCode.KAKAO_LOGOUT_FAILED);
-                                    })
-                    )
-                    .bodyToMono(Void.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .retryWhen(Retry.backoff(3, Duration.ofSeconds(1)))
-                    .block();
-            log.info("Successfully logged out Kakao user {}", providerId);
-        } catch (Exception e) {
-            log.warn("Failed to logout Kakao user {}: {}", providerId, e.getMessage());
-        }
+        String logoutUrl = UriComponentsBuilder.fromUriString(kakaoApiBaseUri)
+                .path("/v1/user/logout")
+                .build()
+                .toUriString();
+
+        kakaoResilience.decorate(Endpoint.LOGOUT, () -> webClient.post()
+                .uri(logoutUrl)
+                .header(HttpHeaders.AUTHORIZATION, "KakaoAK " + adminKey)
+                .header(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded")
+                .body(BodyInserters.fromFormData(params))
+                .retrieve()
+                // 4xx 는 다시 보내도 같은 결과이므로 재시도하지 않는다
+                .onStatus(
+                        status -> status.is4xxClientError(),
+                        response -> response.bodyToMono(String.class)
+                                .map(body -> {
+                                    log.warn("Failed to logout Kakao user {}: {}", providerId, body);
+                                    return new BusinessException(OAuthErrorCode.KAKAO_LOGOUT_FAILED);
+                                })
+                )
+                .onStatus(
+                        status -> status.is5xxServerError(),
+                        response -> response.bodyToMono(String.class)
+                                .map(body -> {
+                                    log.warn("Kakao server error while logging out {}: {}", providerId, body);
+                                    return new BusinessException(OAuthErrorCode.KAKAO_SERVER_ERROR);
+                                })
+                )
+                .bodyToMono(Void.class))
+                .block();
+        log.info("Successfully logged out Kakao user {}", providerId);
     }
 
 }
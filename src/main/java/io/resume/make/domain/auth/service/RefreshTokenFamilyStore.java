@@ -0,0 +1,179 @@
+package io.resume.make.domain.auth.service;
+
+import io.resume.make.global.exception.BusinessException;
+import io.resume.make.global.response.GlobalErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * refresh 토큰 family 회전 상태. 로그인 한 번에서 이어지는 refresh 토큰들을 family id 로 묶고,
+ * 그중 지금 쓸 수 있는 토큰(jti) 하나만 기록한다. family 는 로그인 시 {@link #start} 로 만들고,
+ * family 기록이 없는 토큰(만료, 유실, 위조된 family id)은 폐기된 것으로 본다.
+ * <p>
+ * 회전은 Lua 스크립트 한 번(왕복 1회)으로 확인 → 기존 토큰 폐기 → 후속 토큰 기록을 원자적으로 처리한다.
+ * <ul>
+ *     <li>현재 토큰이면 후속 토큰으로 교체하고, 후속 토큰 쌍을 grace 기간 동안 보관한다.</li>
+ *     <li>직전 토큰이 grace 기간 안에 다시 오면(동시 요청, 재시도) 보관해 둔 같은 쌍을 돌려준다.</li>
+ *     <li>그 밖의 오래된 토큰이 오면 탈취로 보고 family 전체를 폐기한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenFamilyStore {
+
+    private static final String FAMILY_PREFIX = "auth:rt:family:";
+    private static final String GRACE_PREFIX = "auth:rt:grace:";
+    private static final String PAIR_SEPARATOR = "\n";
+
+    /**
+     * KEYS[1] family hash
+     * ARGV[1] 첫 jti, ARGV[2] family TTL ms
+     */
+    private static final RedisScript<Long> START = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'current', ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] family hash, KEYS[2] 제시된 토큰의 grace 키
+     * ARGV[1] 제시된 jti, ARGV[2] 후속 jti, ARGV[3] grace ms, ARGV[4] family TTL ms, ARGV[5] 후속 토큰 쌍
+     */
+    private static final RedisScript<List> ROTATE = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'current')
+            if (not current) or redis.call('HGET', KEYS[1], 'revoked') then
+              return {'revoked'}
+            end
+            if current == ARGV[1] then
+              redis.call('HSET', KEYS[1], 'current', ARGV[2])
+              redis.call('PEXPIRE', KEYS[1], ARGV[4])
+              redis.call('SET', KEYS[2], ARGV[5], 'PX', ARGV[3])
+              return {'rotated'}
+            end
+            local successor = redis.call('GET', KEYS[2])
+            if successor then
+              return {'grace', successor}
+            end
+            redis.call('HSET', KEYS[1], 'revoked', '1')
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return {'reused'}
+            """, List.class);
+
+    private static final RedisScript<Long> REVOKE = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'revoked') then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], 'revoked', '1')
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${auth.refresh.family.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.refresh.family.grace:PT30S}")
+    private Duration grace;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 로그인 시 새 family 를 만들고 첫 refresh 토큰을 현재 토큰으로 기록
+     *
+     * @param tokenId   첫 refresh 토큰의 jti
+     * @param familyTtl family 보관 기간 (refresh 토큰 TTL)
+     */
+    public void start(String familyId, String tokenId, Duration familyTtl) {
+        try {
+            redisTemplate.execute(START, List.of(FAMILY_PREFIX + familyId), tokenId, String.valueOf(familyTtl.toMillis()));
+        } catch (DataAccessException e) {
+            throw unavailable(e);
+        }
+    }
+
+    /**
+     * @param tokenId         제시된 refresh 토큰의 jti
+     * @param successorId     새로 발급한 refresh 토큰의 jti
+     * @param successorAccess 새 access 토큰
+     * @param successorRefresh 새 refresh 토큰
+     * @param familyTtl       family 보관 기간 (refresh 토큰 TTL)
+     */
+    public Rotation rotate(String familyId, String tokenId, String successorId,
+                           String successorAccess, String successorRefresh, Duration familyTtl) {
+        List<?> result;
+        try {
+            result = redisTemplate.execute(ROTATE,
+                    List.of(FAMILY_PREFIX + familyId, GRACE_PREFIX + familyId + ":" + tokenId),
+                    tokenId,
+                    successorId,
+                    String.valueOf(grace.toMillis()),
+                    String.valueOf(familyTtl.toMillis()),
+                    successorAccess + PAIR_SEPARATOR + successorRefresh);
+        } catch (DataAccessException e) {
+            throw unavailable(e);
+        }
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("Unexpected rotation result: " + result);
+        }
+        return switch (String.valueOf(result.get(0))) {
+            case "rotated" -> new Rotation(Outcome.ROTATED, successorAccess, successorRefresh);
+            case "grace" -> {
+                String pair = String.valueOf(result.get(1));
+                int separator = pair.indexOf(PAIR_SEPARATOR);
+                yield new Rotation(Outcome.GRACE, pair.substring(0, separator), pair.substring(separator + 1));
+            }
+            case "reused" -> new Rotation(Outcome.REUSED, null, null);
+            case "revoked" -> new Rotation(Outcome.REVOKED, null, null);
+            default -> throw new IllegalStateException("Unexpected rotation result: " + result);
+        };
+    }
+
+    /**
+     * 로그아웃 등으로 family 전체를 폐기
+     *
+     * @return 이번 호출로 폐기했으면 true, 이미 폐기된 family 면 false
+     */
+    public boolean revoke(String familyId, Duration familyTtl) {
+        try {
+            Long revoked = redisTemplate.execute(REVOKE, List.of(FAMILY_PREFIX + familyId), String.valueOf(familyTtl.toMillis()));
+            return revoked != null && revoked == 1L;
+        } catch (DataAccessException e) {
+            throw unavailable(e);
+        }
+    }
+
+    private BusinessException unavailable(DataAccessException e) {
+        log.error("Refresh token family store unavailable: {}", e.getMessage());
+        return new BusinessException(GlobalErrorCode.SERVICE_UNAVAILABLE);
+    }
+
+    public enum Outcome {
+        /** 정상 회전 */
+        ROTATED,
+        /** grace 기간 안의 중복 요청. 직전에 발급한 쌍을 그대로 돌려준다 */
+        GRACE,
+        /** 폐기된 토큰 재사용. family 를 폐기했다 */
+        REUSED,
+        /** 이미 폐기됐거나 기록이 없는 family */
+        REVOKED
+    }
+
+    public record Rotation(Outcome outcome, String accessToken, String refreshToken) {
+        public boolean issued() {
+            return outcome == Outcome.ROTATED || outcome == Outcome.GRACE;
+        }
+    }
+}
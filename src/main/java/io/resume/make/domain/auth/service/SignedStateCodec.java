@@ -0,0 +1,182 @@
+package io.resume.make.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.resume.make.domain.auth.exception.OAuthErrorCode;
+import io.resume.make.global.exception.BusinessException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 저장소 없이 검증하는 서명된 OAuth state.
+ * <p>
+ * state = base64url(nonce 16B | 만료 epoch 초 8B | codeChallenge) + "." + base64url(HMAC-SHA256).
+ * 발급 시에는 아무 곳에도 쓰지 않는다. {@link #verify} 는 서명, 만료, 재사용 여부만 확인하고,
+ * PKCE 검증까지 통과한 뒤 {@link #markUsed} 가 nonce 를 seen-set 에 넣어 재사용을 막는다.
+ * state 는 공개 API 에서 얼마든지 받을 수 있으므로, PKCE 를 통과하지 못한 요청은 seen-set 을 차지하지 않는다.
+ * <p>
+ * seen-set 은 state 만료 시간만큼만 nonce 를 보관하고 개수로는 내보내지 않는다. 개수 상한에 닿으면 기록하지 않고
+ * 로그인을 계속 진행한다 ({@code auth.state.validations{result=untracked}}).
+ * <p>
+ * seen-set 은 노드 메모리에 있으므로 다른 노드로 같은 state 를 재전송하는 것까지는 막지 못한다.
+ * 이 경우에도 카카오 인가 코드가 1회용이고 PKCE code_verifier 검증을 통과해야 하므로 로그인은 한 번만 성공한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SignedStateCodec {
+
+    private static final int NONCE_LENGTH = 16;
+    private static final int HEADER_LENGTH = NONCE_LENGTH + Long.BYTES;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte[] KEY_LABEL = "oauth-state".getBytes(StandardCharsets.US_ASCII);
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final MeterRegistry meterRegistry;
+    private final SecureRandom random = new SecureRandom();
+
+    @Value("${oauth.state.secret:${jwt.secret}}")
+    private String secret;
+
+    @Value("${oauth.state.ttl:PT10M}")
+    private Duration ttl;
+
+    @Value("${oauth.state.seen-set.capacity:100000}")
+    private long seenSetCapacity;
+
+    private Mac prototype;
+    private Cache<ByteBuffer, Boolean> seen;
+
+    @PostConstruct
+    public void init() {
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalStateException("oauth.state.secret must be at least 32 characters for HMAC signing");
+        }
+        try {
+            // JWT 서명 키와 같은 secret 을 쓰더라도 state 용 키는 따로 파생한다
+            Mac derive = Mac.getInstance(ALGORITHM);
+            derive.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            this.prototype = Mac.getInstance(ALGORITHM);
+            prototype.init(new SecretKeySpec(derive.doFinal(KEY_LABEL), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 unavailable", e);
+        }
+        // 크기 기반 eviction 은 ttl 전에 사용한 nonce 를 지울 수 있으므로 만료로만 비운다
+        this.seen = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * codeChallenge 를 담은 서명된 state 발급
+     */
+    public String issue(String codeChallenge) {
+        byte[] challenge = codeChallenge.getBytes(StandardCharsets.UTF_8);
+        byte[] payload = new byte[HEADER_LENGTH + challenge.length];
+        byte[] nonce = new byte[NONCE_LENGTH];
+        random.nextBytes(nonce);
+        ByteBuffer.wrap(payload)
+                .put(nonce)
+                .putLong(Instant.now().plus(ttl).getEpochSecond())
+                .put(challenge);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * 서명, 만료, 재사용 여부를 확인하고 state 에 담긴 codeChallenge 반환. nonce 는 아직 기록하지 않는다.
+     */
+    public String verify(String state) {
+        byte[] payload = verifiedPayload(state);
+        if (seen.getIfPresent(nonce(payload)) != null) {
+            throw invalid("replayed");
+        }
+        return new String(payload, HEADER_LENGTH, payload.length - HEADER_LENGTH, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * PKCE 검증을 통과한 state 의 nonce 를 기록해 다시 쓰지 못하게 한다
+     */
+    public void markUsed(String state) {
+        ByteBuffer nonce = nonce(verifiedPayload(state));
+        if (isSeenSetFull()) {
+            // 기록하지 못해도 카카오 인가 코드가 1회용이므로 로그인은 한 번만 성공한다
+            meterRegistry.counter(StateManager.VALIDATIONS, "result", "untracked").increment();
+            log.warn("Signed state seen-set is full ({}), nonce not tracked", seenSetCapacity);
+            return;
+        }
+        if (seen.asMap().putIfAbsent(nonce, Boolean.TRUE) != null) {
+            throw invalid("replayed");
+        }
+    }
+
+    private byte[] verifiedPayload(String state) {
+        // 1. 형식과 서명 확인
+        int dot = state == null ? -1 : state.indexOf('.');
+        if (dot <= 0) {
+            throw invalid("malformed");
+        }
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(state.substring(0, dot));
+            signature = DECODER.decode(state.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            throw invalid("malformed");
+        }
+        if (payload.length <= HEADER_LENGTH || !MessageDigest.isEqual(sign(payload), signature)) {
+            throw invalid("bad_signature");
+        }
+
+        // 2. 만료 확인
+        long expiresAt = ByteBuffer.wrap(payload).getLong(NONCE_LENGTH);
+        if (Instant.now().getEpochSecond() > expiresAt) {
+            throw invalid("expired");
+        }
+        return payload;
+    }
+
+    private static ByteBuffer nonce(byte[] payload) {
+        return ByteBuffer.wrap(Arrays.copyOf(payload, NONCE_LENGTH));
+    }
+
+    private boolean isSeenSetFull() {
+        if (seen.estimatedSize() < seenSetCapacity) {
+            return false;
+        }
+        // 만료됐지만 아직 정리되지 않은 항목을 비운 뒤 다시 확인
+        seen.cleanUp();
+        return seen.estimatedSize() >= seenSetCapacity;
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(payload);
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not cloneable", e);
+        }
+    }
+
+    private BusinessException invalid(String reason) {
+        meterRegistry.counter(StateManager.VALIDATIONS, "result", reason).increment();
+        log.warn("Signed state rejected: {}", reason);
+        return new BusinessException(OAuthErrorCode.INVALID_STATE);
+    }
+}
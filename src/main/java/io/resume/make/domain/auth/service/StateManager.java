@@ -1,23 +1,61 @@
 package io.resume.make.domain.auth.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.resume.make.domain.auth.exception.OAuthErrorCode;
+import io.resume.make.domain.auth.state.OAuthStateStore;
 import io.resume.make.global.exception.BusinessException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
-import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * OAuth state 발급/검증.
+ * <p>
+ * {@code oauth.state.mode}
+ * <ul>
+ *     <li>store: UUID state 를 {@link OAuthStateStore} 에 저장하고 검증 시 꺼내면서 삭제한다.</li>
+ *     <li>signed: {@link SignedStateCodec} 의 서명된 state 를 쓴다. 저장소를 거치지 않고,
+ *     PKCE 검증 뒤 {@link #markStateUsed} 에서 재사용 방지용으로 기록한다.</li>
+ * </ul>
+ * 저장소 지연은 {@code auth.state.store{store,op}}, 검증 결과는 {@code auth.state.validations{result}} 로 기록한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StateManager {
-    private static final String STATE_PREFIX = "oauth:state:";
-    private static final Duration STATE_EXPIRATION = Duration.ofMinutes(10);
+    static final String VALIDATIONS = "auth.state.validations";
+    private static final String SIGNED = "signed";
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final OAuthStateStore stateStore;
+    private final SignedStateCodec signedStateCodec;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${oauth.state.mode:store}")
+    private String mode;
+
+    @Value("${oauth.state.store:redis}")
+    private String storeType;
+
+    private Timer saveTimer;
+    private Timer consumeTimer;
+    private Counter validationsOk;
+    private Counter validationsMissing;
+
+    @PostConstruct
+    public void init() {
+        saveTimer = storeTimer("save");
+        consumeTimer = storeTimer("consume");
+        validationsOk = meterRegistry.counter(VALIDATIONS, "result", "ok");
+        validationsMissing = meterRegistry.counter(VALIDATIONS, "result", "missing");
+    }
 
     /**
      * State 생성 및 저장
@@ -25,29 +63,76 @@ public class StateManager {
      * @return 생성된 state
      */
     public String generateAndStoreState(String codeChallenge) {
-        String state = UUID.randomUUID().toString();
-        String key = STATE_PREFIX + state;
+        if (SIGNED.equalsIgnoreCase(mode)) {
+            return signedStateCodec.issue(codeChallenge);
+        }
 
-        redisTemplate.opsForValue().set(key, codeChallenge, STATE_EXPIRATION);
-        log.debug("State generated: {}, stored in redis", state);
+        String state = UUID.randomUUID().toString();
+        saveTimer.record(() -> stateStore.save(state, codeChallenge));
+        log.debug("State generated: {}, stored in {}", state, storeType);
 
         return state;
     }
 
     public String validateAndConsumeState(String state) {
-        String key = STATE_PREFIX + state;
-        String codeChallenge = redisTemplate.opsForValue().get(key);
-        if (codeChallenge == null) {
-            log.error("State not found in redis: {}", state);
+        if (SIGNED.equalsIgnoreCase(mode)) {
+            String codeChallenge = signedStateCodec.verify(state);
+            validationsOk.increment();
+            return codeChallenge;
+        }
+
+        Optional<String> codeChallenge = consumeTimer.record(() -> stateStore.consume(state));
+        if (codeChallenge == null || codeChallenge.isEmpty()) {
+            // 저장소에서는 만료, 위조, 재사용을 구분할 수 없다
+            validationsMissing.increment();
+            log.error("State not found in {}: {}", storeType, state);
             throw new BusinessException(OAuthErrorCode.INVALID_STATE);
         }
 
-        // 사용된 state 삭제
-        redisTemplate.delete(key);
+        validationsOk.increment();
         log.debug("State consumed: {}", state);
-        return codeChallenge;
+        return codeChallenge.get();
     }
 
+    /**
+     * PKCE 검증을 통과한 뒤 호출한다. signed 모드에서 state 를 사용한 것으로 기록하고,
+     * store 모드는 {@link #validateAndConsumeState} 에서 이미 삭제했으므로 할 일이 없다.
+     */
+    public void markStateUsed(String state) {
+        if (SIGNED.equalsIgnoreCase(mode)) {
+            signedStateCodec.markUsed(state);
+        }
+    }
+
+    /**
+     * {@link #validateAndConsumeState} 의 non-blocking 버전
+     */
+    public Mono<String> validateAndConsumeStateReactive(String state) {
+        if (SIGNED.equalsIgnoreCase(mode)) {
+            return Mono.fromCallable(() -> validateAndConsumeState(state));
+        }
 
+        return Mono.defer(() -> {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    return stateStore.consumeReactive(state)
+                            .doFinally(signal -> sample.stop(consumeTimer));
+                })
+                .doOnNext(codeChallenge -> {
+                    validationsOk.increment();
+                    log.debug("State consumed: {}", state);
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    validationsMissing.increment();
+                    log.error("State not found in {}: {}", storeType, state);
+                    return Mono.error(new BusinessException(OAuthErrorCode.INVALID_STATE));
+                }));
+    }
 
+    private Timer storeTimer(String op) {
+        return Timer.builder("auth.state.store")
+                .tag("store", storeType)
+                .tag("op", op)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 }
@@ -1,24 +1,25 @@
 package io.resume.make.domain.auth.service;
 
-import static java.time.Duration.*;
-
+import io.resume.make.domain.auth.blacklist.BlacklistStore;
 import io.resume.make.domain.auth.dto.LoginResponse;
-import io.resume.make.domain.auth.entity.BlacklistedRefreshToken;
 import io.resume.make.domain.auth.jwt.JwtTokenProvider;
-import io.resume.make.domain.auth.repository.BlacklistedTokenRepository;
+import io.resume.make.domain.auth.jwt.VerifiedToken;
 import io.resume.make.domain.user.entity.User;
-import io.resume.make.domain.user.repository.UserRepository;
+import io.resume.make.domain.user.service.UserCacheService;
+import io.resume.make.domain.user.dto.UserSnapshot;
 import io.resume.make.global.exception.BusinessException;
 import io.resume.make.global.response.GlobalErrorCode;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.UUID;
 
 @Slf4j
@@ -27,19 +28,34 @@ import java.util.UUID;
 public class TokenService {
     private final CookieManager cookieManager;
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
-    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final UserCacheService userCacheService;
+    private final BlacklistStore blacklistStore;
+    private final RefreshTokenFamilyStore refreshTokenFamilyStore;
 
-    public LoginResponse issueTokens(User user, HttpServletResponse response) {
+    /**
+     * 로그인 토큰 발급. 로그인은 DB 스케줄러 스레드에서 끝날 수 있으므로 쿠키는 쓰지 않고
+     * 컨트롤러가 {@link #refreshTokenCookieHeaders(String)} 로 응답에 담는다.
+     */
+    public LoginResponse issueTokens(User user) {
         String email = user.getEmail();
         String jwtAccessToken = jwtTokenProvider.generateAccessToken(user.getId(), email);
-        String jwtRefreshToken = jwtTokenProvider.generateRefreshToken(user.getId(), email);
-        long maxAge = between(LocalDateTime.now(), jwtTokenProvider.getExpirationDate(jwtRefreshToken)).getSeconds();
-        cookieManager.addCookie(response, cookieManager.createRefreshTokenCookie(jwtRefreshToken, maxAge));
-
+        String jwtRefreshToken;
+        if (refreshTokenFamilyStore.isEnabled()) {
+            // 회전 시 family 기록이 없으면 폐기된 것으로 보므로 로그인 시 먼저 만든다
+            String familyId = UUID.randomUUID().toString();
+            String tokenId = UUID.randomUUID().toString();
+            refreshTokenFamilyStore.start(familyId, tokenId, jwtTokenProvider.getRefreshTokenTtl());
+            jwtRefreshToken = jwtTokenProvider.generateRefreshToken(user.getId(), email, familyId, tokenId);
+        } else {
+            jwtRefreshToken = jwtTokenProvider.generateRefreshToken(user.getId(), email);
+        }
         return LoginResponse.of(user, jwtAccessToken, jwtRefreshToken);
     }
 
+    public HttpHeaders refreshTokenCookieHeaders(String refreshToken) {
+        return cookieManager.refreshTokenHeaders(refreshToken, jwtTokenProvider.getRefreshTokenTtl().getSeconds());
+    }
+
     /**
      * 리프레시 토큰 재발급
      */
@@ -49,35 +65,53 @@ public class TokenService {
             throw new BusinessException(GlobalErrorCode.INVALID_TOKEN);
         }
 
-        // 1. 블랙리스트에 있으면 무효
-        byte[] tokenHash = hashToken(refreshToken);
-        if (blacklistedTokenRepository.existsByTokenHash(tokenHash)) {
-            log.error("Refresh token is blacklisted");
-            throw new BusinessException(GlobalErrorCode.BLACKLISTED_TOKEN);
-        }
-
-        // 2. 토큰 검증 및 타입 체크
-        if (!jwtTokenProvider.validateToken(refreshToken) || !jwtTokenProvider.hasTokenType(refreshToken, "refresh")){
+        // 1. 토큰 검증 및 타입 체크
+        VerifiedToken verified = verifyRefreshToken(refreshToken);
+        if (verified == null) {
             log.error("Invalid refresh token");
             throw new BusinessException(GlobalErrorCode.EXPIRED_TOKEN);
         }
 
-        // 3. 토큰에서 사용자 ID 추출 및 회원 조회
-        UUID userId = jwtTokenProvider.extractUserId(refreshToken);
+        // 2. 검증된 claim 의 사용자 ID 로 회원 조회
+        UUID userId = verified.userId();
         log.info("Refreshing token for userId: {}", userId);
-        User user = userRepository.findById(userId)
+        UserSnapshot user = userCacheService.findById(userId)
                 .orElseThrow(() -> new BusinessException(GlobalErrorCode.USER_NOT_FOUND));
 
-        // 4. 새 토큰 발급
-        String newAccessToken = jwtTokenProvider.generateAccessToken(userId, user.getEmail());
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(userId, user.getEmail());
-        long maxAge = between(LocalDateTime.now(), jwtTokenProvider.getExpirationDate(newRefreshToken)).getSeconds();
+        // 3. 새 토큰 발급 후 기존 토큰 폐기
+        String newAccessToken = jwtTokenProvider.generateAccessToken(userId, user.email());
+        String newRefreshToken;
+        if (verified.hasFamily() && refreshTokenFamilyStore.isEnabled()) {
+            // family 회전: 확인/폐기/후속 기록을 한 번에. 동시 요청은 같은 쌍을 받는다
+            String successorId = UUID.randomUUID().toString();
+            RefreshTokenFamilyStore.Rotation rotation = refreshTokenFamilyStore.rotate(
+                    verified.familyId(),
+                    verified.tokenId(),
+                    successorId,
+                    newAccessToken,
+                    jwtTokenProvider.generateRefreshToken(userId, user.email(), verified.familyId(), successorId),
+                    jwtTokenProvider.getRefreshTokenTtl());
+            if (!rotation.issued()) {
+                log.warn("Refresh token reuse detected: userId: {}, family: {}, outcome: {}",
+                        userId, verified.familyId(), rotation.outcome());
+                throw new BusinessException(GlobalErrorCode.BLACKLISTED_TOKEN);
+            }
+            newAccessToken = rotation.accessToken();
+            newRefreshToken = rotation.refreshToken();
+        } else {
+            // family 가 없는 이전 토큰: blacklist 추가. 이미 있으면 재사용된 토큰이므로 무효
+            if (!blacklistStore.add(hashToken(refreshToken), userId, verified.expiresAt())) {
+                log.error("Refresh token is blacklisted");
+                throw new BusinessException(GlobalErrorCode.BLACKLISTED_TOKEN);
+            }
+            newRefreshToken = jwtTokenProvider.generateRefreshToken(userId, user.email());
+        }
+
+        // 4. 쿠키 설정
+        long maxAge = jwtTokenProvider.getRefreshTokenTtl().getSeconds();
         cookieManager.addCookie(response, cookieManager.createRefreshTokenCookie(newRefreshToken, maxAge));
         log.debug("Using cookie for refresh token");
 
-        // 5. 기존 토큰 blacklist 추가
-        addToBlacklist(refreshToken, userId);
-        log.info("Refresh token added to blacklist: userId: {}, expiresAt: {}", userId, jwtTokenProvider.getExpirationDate(refreshToken));
         return LoginResponse.of(user, newAccessToken, newRefreshToken);
     }
 
@@ -89,47 +123,46 @@ public class TokenService {
             return null;
         }
 
-        byte[] tokenHash = hashToken(refreshToken);
-        if (blacklistedTokenRepository.existsByTokenHash(tokenHash)) {
-            log.info("Refresh token already blacklisted");
+        VerifiedToken verified = verifyRefreshToken(refreshToken);
+        if (verified == null) {
+            log.warn("Invalid refresh token provided during logout");
             return null;
         }
 
-        if (!jwtTokenProvider.validateToken(refreshToken) || !jwtTokenProvider.hasTokenType(refreshToken, "refresh")){
-            log.warn("Invalid refresh token provided during logout");
+        UUID userId = verified.userId();
+        boolean revoked = verified.hasFamily() && refreshTokenFamilyStore.isEnabled()
+                ? refreshTokenFamilyStore.revoke(verified.familyId(), jwtTokenProvider.getRefreshTokenTtl())
+                : blacklistStore.add(hashToken(refreshToken), userId, verified.expiresAt());
+        if (!revoked) {
+            log.info("Refresh token already revoked");
             return null;
         }
-
-        UUID userId = jwtTokenProvider.extractUserId(refreshToken);
-        addToBlacklist(refreshToken, userId);
-        log.info("Refresh token revoked for userId: {}", userId);
+        log.info("Refresh token revoked for userId: {}, expiresAt: {}", userId, verified.expiresAt());
         return userId;
     }
 
     public void blacklistRefreshToken(String refreshToken, UUID userId, LocalDateTime expiresAt) {
-        byte[] tokenHash = hashToken(refreshToken);
-        blacklistedTokenRepository.save(BlacklistedRefreshToken.builder()
-                .userId(userId)
-                .tokenHash(tokenHash)
-                .expiredAt(expiresAt)
-                .build());
-    }
-
-    public void addToBlacklist(String refreshToken, UUID userId) {
-        LocalDateTime expiresAt = jwtTokenProvider.getExpirationDate(refreshToken);
-        log.info("Adding refresh token to blacklist: userId: {}, expiresAt: {}", userId, expiresAt);
-        blacklistRefreshToken(refreshToken, userId, expiresAt);
+        blacklistStore.add(hashToken(refreshToken), userId, expiresAt.atZone(ZoneId.systemDefault()).toInstant());
     }
 
-    public void cleanupExpiredBlacklist() {
-        blacklistedTokenRepository.deleteAllByExpiredAtBefore(LocalDateTime.now());
-        log.info("Cleanup expired blacklist tokens");
+    /**
+     * refresh 토큰을 한 번만 파싱해 검증
+     *
+     * @return 유효한 refresh 토큰이면 검증된 claim, 아니면 null
+     */
+    private VerifiedToken verifyRefreshToken(String refreshToken) {
+        try {
+            VerifiedToken verified = jwtTokenProvider.verify(refreshToken);
+            return verified.isRefreshToken() ? verified : null;
+        } catch (BusinessException e) {
+            return null;
+        }
     }
 
     /**
      * 토큰을 SHA-256으로 해시
      */
-    private byte[] hashToken(String token) {
+    static byte[] hashToken(String token) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             return digest.digest(token.getBytes(StandardCharsets.UTF_8));
@@ -0,0 +1,46 @@
+package io.resume.make.domain.auth.state;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 노드 메모리 state 저장소. 로그인 URL 발급과 콜백이 같은 노드로 와야 하므로 단일 노드 배포나 테스트에서만 쓴다.
+ */
+@Component
+@ConditionalOnProperty(name = "oauth.state.store", havingValue = "memory")
+public class InMemoryOAuthStateStore implements OAuthStateStore {
+
+    @Value("${oauth.state.ttl:PT10M}")
+    private Duration ttl;
+
+    @Value("${oauth.state.memory.maximum-size:100000}")
+    private long maximumSize;
+
+    private Cache<String, String> states;
+
+    @PostConstruct
+    public void init() {
+        this.states = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public void save(String state, String codeChallenge) {
+        states.put(state, codeChallenge);
+    }
+
+    @Override
+    public Optional<String> consume(String state) {
+        // 만료된 항목은 asMap 에서 보이지 않으므로 remove 가 null 을 돌려준다
+        return Optional.ofNullable(states.asMap().remove(state));
+    }
+}
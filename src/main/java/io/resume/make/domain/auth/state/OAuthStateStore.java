@@ -0,0 +1,35 @@
+package io.resume.make.domain.auth.state;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * 발급한 OAuth state 와 PKCE codeChallenge 보관소. 보관 기간은 {@code oauth.state.ttl} 이다.
+ * <p>
+ * {@code oauth.state.store} 로 구현을 고른다.
+ * <ul>
+ *     <li>redis (기본): SET + TTL, 검증 시 GETDEL. 여러 노드가 state 를 공유한다.</li>
+ *     <li>memory: 노드 메모리(Caffeine). 단일 노드 배포와 테스트용.</li>
+ * </ul>
+ */
+public interface OAuthStateStore {
+
+    void save(String state, String codeChallenge);
+
+    /**
+     * 조회와 삭제를 한 번에 수행. 같은 state 를 동시에 소비해도 한 요청만 값을 받는다.
+     *
+     * @return 저장된 codeChallenge. 없거나 만료됐거나 이미 소비된 state 면 empty
+     */
+    Optional<String> consume(String state);
+
+    /**
+     * {@link #consume} 의 non-blocking 버전. 기본 구현은 구독한 스레드에서 {@link #consume} 을 호출한다.
+     *
+     * @return 저장된 codeChallenge. 없으면 빈 Mono
+     */
+    default Mono<String> consumeReactive(String state) {
+        return Mono.fromCallable(() -> consume(state).orElse(null));
+    }
+}
@@ -0,0 +1,65 @@
+package io.resume.make.domain.auth.state;
+
+import io.resume.make.global.exception.BusinessException;
+import io.resume.make.global.response.GlobalErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Redis state 저장소. 키는 {@code oauth:state:<state>}, 값은 codeChallenge 이다.
+ * 소비는 GETDEL(Redis 6.2+) 한 번으로 처리해 같은 state 의 동시 재사용을 막는다.
+ * non-blocking 소비는 같은 connection factory 의 {@link ReactiveStringRedisTemplate} 으로 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "oauth.state.store", havingValue = "redis", matchIfMissing = true)
+public class RedisOAuthStateStore implements OAuthStateStore {
+
+    static final String KEY_PREFIX = "oauth:state:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+
+    @Value("${oauth.state.ttl:PT10M}")
+    private Duration ttl;
+
+    @Override
+    public void save(String state, String codeChallenge) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + state, codeChallenge, ttl);
+        } catch (DataAccessException e) {
+            throw unavailable(e);
+        }
+    }
+
+    @Override
+    public Optional<String> consume(String state) {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().getAndDelete(KEY_PREFIX + state));
+        } catch (DataAccessException e) {
+            throw unavailable(e);
+        }
+    }
+
+    @Override
+    public Mono<String> consumeReactive(String state) {
+        return reactiveRedisTemplate.opsForValue().getAndDelete(KEY_PREFIX + state)
+                .onErrorMap(DataAccessException.class, this::unavailable);
+    }
+
+    private BusinessException unavailable(DataAccessException e) {
+        log.error("OAuth state store unavailable: {}", e.getMessage());
+        return new BusinessException(GlobalErrorCode.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,24 @@
+package io.resume.make.domain.projects.converter;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * JSON 컬럼 converter 가 같이 쓰는 ObjectMapper.
+ * <p>
+ * converter 는 엔티티를 읽을 때 행마다 호출되므로 각자 이 mapper 로 ObjectReader/ObjectWriter 를 한 번만 만들어 둔다.
+ * Blackbird 가 프로퍼티 접근과 생성자 호출을 리플렉션 대신 생성된 람다로 바꾸고,
+ * 예전에 저장된 행에 지금은 없는 필드가 있어도 읽을 수 있게 모르는 필드는 무시한다.
+ */
+final class JsonColumnMapper {
+
+    static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new BlackbirdModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private JsonColumnMapper() {
+    }
+}
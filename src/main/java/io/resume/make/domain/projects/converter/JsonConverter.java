@@ -1,43 +0,0 @@
-package io.resume.make.domain.projects.converter;
-
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.persistence.AttributeConverter;
-import jakarta.persistence.Converter;
-import lombok.extern.slf4j.Slf4j;
-
-import java.util.List;
-
-@Slf4j
-@Converter
-public class JsonConverter implements AttributeConverter<List<String>, String> {
-
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
-    @Override
-    public String convertToDatabaseColumn(List<String> attribute) {
-        if (attribute == null) {
-            return null;
-        }
-        try {
-            return objectMapper.writeValueAsString(attribute);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to convert List to JSON", e);
-            return null;
-        }
-    }
-
-    @Override
-    public List<String> convertToEntityAttribute(String dbData) {
-        if (dbData == null || dbData.isEmpty()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(dbData, new TypeReference<List<String>>() {});
-        } catch (JsonProcessingException e) {
-            log.error("Failed to convert JSON to List", e);
-            return null;
-        }
-    }
-}
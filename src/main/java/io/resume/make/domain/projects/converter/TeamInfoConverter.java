@@ -1,7 +1,8 @@
 package io.resume.make.domain.projects.converter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.resume.make.domain.projects.entity.vo.TeamInfo;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
@@ -11,7 +12,8 @@ import lombok.extern.slf4j.Slf4j;
 @Converter
 public class TeamInfoConverter implements AttributeConverter<TeamInfo, String> {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectReader READER = JsonColumnMapper.MAPPER.readerFor(TeamInfo.class);
+    private static final ObjectWriter WRITER = JsonColumnMapper.MAPPER.writerFor(TeamInfo.class);
 
     @Override
     public String convertToDatabaseColumn(TeamInfo attribute) {
@@ -19,7 +21,7 @@ public class TeamInfoConverter implements AttributeConverter<TeamInfo, String> {
             return null;
         }
         try {
-            return objectMapper.writeValueAsString(attribute);
+            return WRITER.writeValueAsString(attribute);
         } catch (JsonProcessingException e) {
             log.error("Failed to convert TeamInfo to JSON", e);
             throw new IllegalStateException("Failed to serialize TeamInfo to database", e);
@@ -32,7 +34,7 @@ public class TeamInfoConverter implements AttributeConverter<TeamInfo, String> {
             return null;
         }
         try {
-            return objectMapper.readValue(dbData, TeamInfo.class);
+            return READER.readValue(dbData);
         } catch (JsonProcessingException e) {
             log.error("Failed to convert JSON to TeamInfo", e);
             throw new IllegalStateException("Failed to deserialize TeamInfo from database", e);
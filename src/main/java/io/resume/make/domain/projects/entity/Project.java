@@ -1,11 +1,11 @@
 package io.resume.make.domain.projects.entity;
 
-import io.resume.make.domain.projects.converter.JsonConverter;
 import io.resume.make.domain.projects.converter.TeamInfoConverter;
 import io.resume.make.domain.projects.entity.vo.TeamInfo;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
@@ -42,9 +42,15 @@ public class Project {
     @Column(name = "end_date")
     private LocalDate endDate;
 
-    @Convert(converter = JsonConverter.class)
-    @Column(name = "tech_stack", columnDefinition = "JSON")
-    private List<String> techStack;
+    // 기술 스택 사전(tech_stack) ID. 이름 ↔ ID 변환은 TechStackDictionary
+    @Getter
+    @ElementCollection
+    @CollectionTable(name = "project_tech_stack",
+            joinColumns = @JoinColumn(name = "project_id"),
+            indexes = @Index(name = "idx_tech_stack_id", columnList = "tech_stack_id, project_id"))
+    @OrderColumn(name = "order_index")
+    @Column(name = "tech_stack_id", nullable = false)
+    private List<Integer> techStackIds;
 
     @Convert(converter = TeamInfoConverter.class)
     @Column(name = "team_info", columnDefinition = "JSON")
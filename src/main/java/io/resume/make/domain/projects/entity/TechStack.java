@@ -0,0 +1,27 @@
+package io.resume.make.domain.projects.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기술 스택 사전. 프로젝트는 이름 대신 {@link #id} 를 저장하고, 이름 ↔ ID 변환은 {@code TechStackDictionary} 가 한다.
+ * 한 번 만든 항목은 지우거나 이름을 바꾸지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "tech_stack",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_tech_stack_name", columnNames = {"name"})
+	})
+public class TechStack {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer id;
+
+	@Column(length = 100, nullable = false)
+	private String name;
+}
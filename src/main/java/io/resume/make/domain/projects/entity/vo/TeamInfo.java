@@ -1,16 +1,11 @@
 package io.resume.make.domain.projects.entity.vo;
 
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-public class TeamInfo {
-    private String role;
-    private String members;
-    private String description;
+/**
+ * 프로젝트 팀 구성 (team_info JSON 컬럼). 값 객체라 바꿀 때는 새로 만들어 교체한다.
+ */
+public record TeamInfo(
+        String role,
+        String members,
+        String description
+) {
 }
@@ -0,0 +1,22 @@
+package io.resume.make.domain.projects.repository;
+
+import io.resume.make.domain.projects.entity.Project;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ProjectRepository extends JpaRepository<Project, UUID> {
+
+    /**
+     * 기술 스택이 정확히 일치하는 프로젝트. project_tech_stack 의 idx_tech_stack_id 로 프로젝트 ID 를 찾고
+     * 기술 스택 목록은 같은 쿼리에서 함께 읽는다.
+     */
+    @EntityGraph(attributePaths = "techStackIds")
+    @Query("select p from Project p where p.id in "
+            + "(select tp.id from Project tp join tp.techStackIds t where t = :techStackId)")
+    List<Project> findAllByTechStackId(@Param("techStackId") int techStackId);
+}
@@ -0,0 +1,10 @@
+package io.resume.make.domain.projects.repository;
+
+import io.resume.make.domain.projects.entity.TechStack;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface TechStackRepository extends JpaRepository<TechStack, Integer>, TechStackUpsertRepository {
+    Optional<TechStack> findByName(String name);
+}
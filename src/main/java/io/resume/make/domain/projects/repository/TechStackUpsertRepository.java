@@ -0,0 +1,18 @@
+package io.resume.make.domain.projects.repository;
+
+/**
+ * 기술 스택 사전 등록. {@link TechStackRepository} 의 fragment 로 JPA 를 거치지 않고 SQL 로 처리한다.
+ */
+public interface TechStackUpsertRepository {
+
+    /**
+     * 이름에 해당하는 항목. 없으면 만든다.
+     * 같은 이름을 동시에 등록해도 uk_tech_stack_name 위반 없이 한 행만 남는다.
+     *
+     * @return 항목의 ID 와 사전에 저장된 표기 (먼저 등록된 대소문자)
+     */
+    Entry upsert(String name);
+
+    record Entry(int id, String name) {
+    }
+}
@@ -0,0 +1,43 @@
+package io.resume.make.domain.projects.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 이미 있는 이름이 대부분이라 unique 인덱스 조회를 먼저 하고, 없을 때만
+ * {@code INSERT ... ON DUPLICATE KEY UPDATE} 후 다시 조회한다. 갱신 절은 아무것도 바꾸지 않으므로
+ * 처음 등록된 표기(대소문자)가 유지된다.
+ */
+@RequiredArgsConstructor
+public class TechStackUpsertRepositoryImpl implements TechStackUpsertRepository {
+
+    private static final String SELECT = "SELECT id, name FROM tech_stack WHERE name = ?";
+    private static final String UPSERT = "INSERT INTO tech_stack (name) VALUES (?) ON DUPLICATE KEY UPDATE id = id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Entry upsert(String name) {
+        // 1. 기존 항목 조회
+        Entry existing = find(name);
+        if (existing != null) {
+            return existing;
+        }
+
+        // 2. 등록. 동시에 등록한 요청이 먼저 넣었으면 그 행을 읽는다
+        jdbcTemplate.update(UPSERT, name);
+        Entry created = find(name);
+        if (created == null) {
+            throw new IllegalStateException("Tech stack " + name + " vanished during upsert");
+        }
+        return created;
+    }
+
+    private Entry find(String name) {
+        List<Entry> entries = jdbcTemplate.query(SELECT,
+                (rs, rowNum) -> new Entry(rs.getInt("id"), rs.getString("name")), name);
+        return entries.isEmpty() ? null : entries.get(0);
+    }
+}
@@ -0,0 +1,125 @@
+package io.resume.make.domain.projects.service;
+
+import io.resume.make.domain.projects.entity.TechStack;
+import io.resume.make.domain.projects.repository.TechStackRepository;
+import io.resume.make.domain.projects.repository.TechStackUpsertRepository;
+import io.resume.make.global.exception.BusinessException;
+import io.resume.make.global.response.GlobalErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기술 스택 이름 ↔ 사전 ID 변환. API 는 이름을 주고받고 {@code Project} 에는 ID 만 저장한다.
+ * <p>
+ * 사전은 추가만 되고 항목 수도 적으므로 전부 메모리에 둔다. 같은 이름은 사전의 String 하나를 같이 쓰므로
+ * 프로젝트를 읽을 때마다 이름을 새로 만들지 않는다.
+ * 이름은 앞뒤 공백을 떼고 대소문자 구분 없이 같은 항목으로 본다 (컬럼 collation 과 같은 기준).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TechStackDictionary {
+
+    // tech_stack.name 컬럼 길이
+    static final int MAX_NAME_LENGTH = 100;
+
+    private final TechStackRepository techStackRepository;
+
+    private final Map<String, Integer> idsByKey = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+
+    /**
+     * 이름 목록을 ID 목록으로. 처음 보는 이름은 사전에 등록한다. 빈 이름과 중복은 뺀다.
+     *
+     * @throws BusinessException INVALID_INPUT, {@value #MAX_NAME_LENGTH} 자를 넘는 이름
+     */
+    public List<Integer> encode(List<String> names) {
+        if (names == null) {
+            return new ArrayList<>();
+        }
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (String name : names) {
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            String stripped = name.strip();
+            Integer id = idsByKey.get(key(stripped));
+            if (id == null) {
+                // 컬럼 길이를 넘으면 DB 오류 대신 입력 오류로 돌려준다
+                if (stripped.length() > MAX_NAME_LENGTH) {
+                    log.warn("Tech stack name too long: {} chars", stripped.length());
+                    throw new BusinessException(GlobalErrorCode.INVALID_INPUT);
+                }
+                TechStackUpsertRepository.Entry entry = techStackRepository.upsert(stripped);
+                id = entry.id();
+                namesById.putIfAbsent(id, entry.name());
+                idsByKey.putIfAbsent(key(stripped), id);
+            }
+            ids.add(id);
+        }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * ID 목록을 사전에 등록된 이름 목록으로
+     *
+     * @throws IllegalStateException 사전에 없는 ID
+     */
+    public List<String> decode(List<Integer> ids) {
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        List<Integer> missing = ids.stream().filter(id -> !namesById.containsKey(id)).distinct().toList();
+        if (!missing.isEmpty()) {
+            techStackRepository.findAllById(missing).forEach(this::remember);
+        }
+        List<String> names = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            String name = namesById.get(id);
+            if (name == null) {
+                log.error("Unknown tech stack id: {}", id);
+                throw new IllegalStateException("Unknown tech stack id " + id);
+            }
+            names.add(name);
+        }
+        return names;
+    }
+
+    /**
+     * 등록하지 않고 찾기만 한다. 기술 스택으로 프로젝트를 걸러낼 때 쓴다.
+     */
+    public Optional<Integer> find(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        String stripped = name.strip();
+        Integer id = idsByKey.get(key(stripped));
+        if (id != null) {
+            return Optional.of(id);
+        }
+        return techStackRepository.findByName(stripped)
+                .map(techStack -> {
+                    remember(techStack);
+                    return techStack.getId();
+                });
+    }
+
+    private void remember(TechStack techStack) {
+        namesById.putIfAbsent(techStack.getId(), techStack.getName());
+        idsByKey.putIfAbsent(key(techStack.getName()), techStack.getId());
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,26 @@
+package io.resume.make.domain.user.dto;
+
+import io.resume.make.domain.user.entity.User;
+
+import java.util.UUID;
+
+/**
+ * 캐시에 보관하는 회원 정보. JPA 엔티티 대신 불변 값으로 노드 간(Redis) 공유한다.
+ */
+public record UserSnapshot(
+        UUID id,
+        String provider,
+        String providerId,
+        String email,
+        String name
+) {
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getProvider(),
+                user.getProviderId(),
+                user.getEmail(),
+                user.getName()
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package io.resume.make.domain.user.repository;
+
+import java.util.UUID;
+
+/**
+ * 소셜 로그인 회원 등록/갱신. {@link UserRepository} 의 fragment 로 JPA 를 거치지 않고 SQL 로 처리한다.
+ */
+public interface UserUpsertRepository {
+
+    /**
+     * (provider, providerId) 회원이 없으면 만들고, 있으면 email/name 을 갱신한다. 값이 같으면 쓰지 않는다.
+     * null 인 값은 알 수 없는 것으로 보고 저장된 값을 유지한다 (id_token 에 claim 이 없는 경우).
+     * 같은 신규 회원이 동시에 로그인해도 uk_provider_provider_id 위반 없이 한 행만 남는다.
+     */
+    UpsertResult upsert(String provider, String providerId, String email, String name);
+
+    /**
+     * @param id     회원 ID
+     * @param status 이번 호출에서 일어난 일
+     * @param email  저장된 email
+     * @param name   저장된 name
+     */
+    record UpsertResult(UUID id, Status status, String email, String name) {
+    }
+
+    enum Status {
+        CREATED,
+        UPDATED,
+        UNCHANGED
+    }
+}
@@ -0,0 +1,87 @@
+package io.resume.make.domain.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * MySQL {@code INSERT ... ON DUPLICATE KEY UPDATE} 기반 구현. 테스트용 H2 도 MySQL 모드에서 같은 문장을 지원한다.
+ * <p>
+ * affected rows 로 삽입 여부를 판단하지 않는다. Connector/J 는 {@code useAffectedRows} 가 없으면 found rows 를 돌려주므로
+ * 값이 같은 중복 키도 1(삽입)로 보인다.
+ * <p>
+ * MySQL 8 에는 RETURNING 이 없고 ID 가 BINARY(16) UUID 라 LAST_INSERT_ID 로도 돌려받을 수 없다.
+ * 그래서 대부분을 차지하는 기존 회원 로그인이 한 번에 끝나도록 unique 인덱스 조회를 먼저 한다.
+ * <ul>
+ *     <li>기존 회원, 변경 없음: SELECT 1회, 쓰기 없음</li>
+ *     <li>기존 회원, 변경 있음: SELECT + upsert</li>
+ *     <li>신규 회원: SELECT + upsert + SELECT. 다시 읽은 ID 가 삽입한 ID 와 같아야 생성으로 본다</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public class UserUpsertRepositoryImpl implements UserUpsertRepository {
+
+    private static final String SELECT =
+            "SELECT user_id, email, name FROM users WHERE provider = ? AND provider_id = ?";
+    private static final String UPSERT =
+            "INSERT INTO users (user_id, provider, provider_id, email, name) VALUES (?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE email = COALESCE(VALUES(email), email), name = COALESCE(VALUES(name), name)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public UpsertResult upsert(String provider, String providerId, String email, String name) {
+        // 1. 기존 회원 조회. 바뀐 값이 없으면 여기서 끝 (null 은 저장된 값 유지)
+        Existing existing = find(provider, providerId);
+        if (existing != null) {
+            email = email != null ? email : existing.email();
+            name = name != null ? name : existing.name();
+            if (Objects.equals(existing.email(), email) && Objects.equals(existing.name(), name)) {
+                return new UpsertResult(existing.id(), Status.UNCHANGED, email, name);
+            }
+        }
+
+        // 2. 삽입 또는 갱신
+        UUID candidate = existing != null ? existing.id() : UUID.randomUUID();
+        jdbcTemplate.update(UPSERT, toBytes(candidate), provider, providerId, email, name);
+        if (existing != null) {
+            return new UpsertResult(existing.id(), Status.UPDATED, email, name);
+        }
+
+        // 3. 다시 읽어 삽입된 ID 확인. 다르면 동시에 로그인한 다른 요청이 먼저 삽입함
+        Existing winner = find(provider, providerId);
+        if (winner == null) {
+            throw new IllegalStateException("User " + provider + ":" + providerId + " vanished during upsert");
+        }
+        if (winner.id().equals(candidate)) {
+            return new UpsertResult(candidate, Status.CREATED, winner.email(), winner.name());
+        }
+        return new UpsertResult(winner.id(), Status.UPDATED, winner.email(), winner.name());
+    }
+
+    private Existing find(String provider, String providerId) {
+        List<Existing> rows = jdbcTemplate.query(SELECT,
+                (rs, rowNum) -> new Existing(toUuid(rs.getBytes("user_id")), rs.getString("email"), rs.getString("name")),
+                provider, providerId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private record Existing(UUID id, String email, String name) {
+    }
+}
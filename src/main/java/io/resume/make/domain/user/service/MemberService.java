@@ -1,12 +1,17 @@
 package io.resume.make.domain.user.service;
 
 import io.resume.make.domain.auth.service.KakaoOAuthService;
+import io.resume.make.domain.user.entity.User;
 import io.resume.make.domain.user.repository.UserRepository;
+import io.resume.make.global.exception.BusinessException;
+import io.resume.make.global.response.GlobalErrorCode;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -15,4 +20,12 @@ public class MemberService {
     private final KakaoOAuthService kakaoOAuthService;
     private final UserRepository userRepository;
 
+    /**
+     * 인증 주체에는 userId/email 만 있으므로 User 엔티티가 필요한 핸들러는 여기서 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public User getUser(UUID userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(GlobalErrorCode.USER_NOT_FOUND));
+    }
 }
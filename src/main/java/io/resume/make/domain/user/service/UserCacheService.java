@@ -0,0 +1,206 @@
+package io.resume.make.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.resume.make.domain.user.dto.UserSnapshot;
+import io.resume.make.domain.user.entity.User;
+import io.resume.make.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원 조회 near-cache. L1(로컬 Caffeine) → L2(Redis) → MySQL 순으로 조회한다.
+ * <p>
+ * 회원 정보가 바뀌면 {@link #put(User)} / {@link #evict(UUID)} 로 L2 를 갱신하고 Redis pub/sub 으로
+ * 다른 노드의 L1 을 무효화한다. Redis 장애 시에는 L2 를 건너뛰고 DB 로 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserCacheService implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "user:cache:invalidate";
+    private static final String KEY_PREFIX = "user:snapshot:";
+    private static final String NODE_ID = UUID.randomUUID().toString();
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${user.cache.l1.maximum-size:10000}")
+    private long l1MaximumSize;
+
+    @Value("${user.cache.l1.ttl:PT5M}")
+    private Duration l1Ttl;
+
+    @Value("${user.cache.l2.enabled:true}")
+    private boolean l2Enabled;
+
+    @Value("${user.cache.l2.ttl:PT30M}")
+    private Duration l2Ttl;
+
+    private Cache<UUID, UserSnapshot> l1;
+
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder l2Misses = new LongAdder();
+    private final LongAdder l2Errors = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(l1MaximumSize)
+                .expireAfterWrite(l1Ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<UserSnapshot> findById(UUID userId) {
+        UserSnapshot cached = l1.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        UserSnapshot snapshot = readL2(userId);
+        if (snapshot == null) {
+            snapshot = userRepository.findById(userId)
+                    .map(UserSnapshot::from)
+                    .orElse(null);
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+            writeL2(snapshot);
+        }
+        l1.put(userId, snapshot);
+        return Optional.of(snapshot);
+    }
+
+    public boolean exists(UUID userId) {
+        return findById(userId).isPresent();
+    }
+
+    /**
+     * 저장된 회원 정보로 캐시를 갱신하고 다른 노드의 L1 을 무효화
+     */
+    public void put(User user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        UserSnapshot snapshot = UserSnapshot.from(user);
+        l1.put(snapshot.id(), snapshot);
+        writeL2(snapshot);
+        publishInvalidation(snapshot.id());
+    }
+
+    /**
+     * 회원 삭제 등으로 캐시에서 제거
+     */
+    public void evict(UUID userId) {
+        l1.invalidate(userId);
+        if (l2Enabled) {
+            try {
+                redisTemplate.delete(KEY_PREFIX + userId);
+            } catch (RuntimeException e) {
+                l2Errors.increment();
+                log.warn("Failed to evict user cache from redis: {}", e.getMessage());
+            }
+        }
+        publishInvalidation(userId);
+    }
+
+    /**
+     * 다른 노드에서 보낸 무효화 메시지. "nodeId:userId" 형식이며 자기 자신이 보낸 메시지는 무시한다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || NODE_ID.equals(body.substring(0, separator))) {
+            return;
+        }
+        try {
+            l1.invalidate(UUID.fromString(body.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed user cache invalidation: {}", body);
+        }
+    }
+
+    public CacheStats l1Stats() {
+        return l1.stats();
+    }
+
+    public long l2Hits() {
+        return l2Hits.sum();
+    }
+
+    public long l2Misses() {
+        return l2Misses.sum();
+    }
+
+    public long l2Errors() {
+        return l2Errors.sum();
+    }
+
+    private UserSnapshot readL2(UUID userId) {
+        if (!l2Enabled) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            if (json == null) {
+                l2Misses.increment();
+                return null;
+            }
+            l2Hits.increment();
+            return objectMapper.readValue(json, UserSnapshot.class);
+        } catch (JsonProcessingException e) {
+            l2Errors.increment();
+            log.warn("Failed to read user snapshot from redis: {}", e.getMessage());
+            return null;
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            log.debug("User cache L2 unavailable: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeL2(UserSnapshot snapshot) {
+        if (!l2Enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + snapshot.id(), objectMapper.writeValueAsString(snapshot), l2Ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to write user snapshot to redis: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            log.debug("User cache L2 unavailable: {}", e.getMessage());
+        }
+    }
+
+    private void publishInvalidation(UUID userId) {
+        if (!l2Enabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, NODE_ID + ":" + userId);
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            log.warn("Failed to publish user cache invalidation: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.resume.make.global.http;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 기동 시 카카오 호스트마다 {@code connections} 개의 연결을 미리 열어 둔다.
+ * <p>
+ * 같은 호스트에 동시에 요청을 보내 풀에 연결(TCP + TLS)을 만들고, 응답 상태는 보지 않는다.
+ * ApplicationRunner 가 끝나야 readiness 가 ACCEPTING_TRAFFIC 이 되므로 배포 직후 첫 로그인이 연결 비용을 내지 않는다.
+ * 실패하거나 {@code timeout} 을 넘겨도 기동은 계속한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kakao.http.warmup.enabled", havingValue = "true")
+public class KakaoConnectionWarmer implements ApplicationRunner {
+
+    private final WebClient webClient;
+
+    @Value("${kakao.login.uri.base}")
+    private String kakaoAuthBaseUri;
+
+    @Value("${kakao.api.uri.base:https://kapi.kakao.com}")
+    private String kakaoApiBaseUri;
+
+    @Value("${kakao.http.warmup.connections:4}")
+    private int connections;
+
+    @Value("${kakao.http.warmup.timeout:PT5S}")
+    private Duration timeout;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        List<Long> opened = Flux.just(kakaoAuthBaseUri, kakaoApiBaseUri)
+                .flatMap(this::warmUp)
+                .collectList()
+                .block();
+        log.info("Warmed up Kakao connections {} in {}ms", opened,
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    /**
+     * @return 응답을 받은 요청 수 (HTTP/1.1 이면 열린 연결 수)
+     */
+    Mono<Long> warmUp(String baseUri) {
+        return Flux.range(0, connections)
+                .flatMap(i -> webClient.head()
+                        .uri(baseUri)
+                        .exchangeToMono(response -> response.releaseBody().thenReturn(1L))
+                        .onErrorResume(e -> {
+                            log.debug("Kakao warm-up request to {} failed: {}", baseUri, e.toString());
+                            return Mono.empty();
+                        }), connections)
+                .count()
+                .timeout(timeout)
+                .onErrorResume(e -> {
+                    log.warn("Kakao connection warm-up to {} failed: {}", baseUri, e.toString());
+                    return Mono.just(0L);
+                });
+    }
+}
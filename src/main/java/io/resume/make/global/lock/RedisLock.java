@@ -0,0 +1,67 @@
+package io.resume.make.global.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 여러 노드 중 한 곳에서만 실행해야 하는 배치 작업용 Redis 락.
+ * SET NX PX 로 잡고, 자신이 잡은 락인지 확인한 뒤 지우는 Lua 스크립트로 푼다.
+ * 락 TTL 은 작업이 비정상 종료돼도 풀리도록 하는 안전장치이므로 작업은 TTL 안에 끝나야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final String KEY_PREFIX = "lock:";
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 락을 잡은 경우에만 작업을 실행
+     *
+     * @return 작업 결과, 락을 잡지 못했으면 empty
+     */
+    public <T> Optional<T> runLocked(String name, Duration ttl, Supplier<T> work) {
+        String key = KEY_PREFIX + name;
+        String owner = UUID.randomUUID().toString();
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(key, owner, ttl);
+        } catch (RuntimeException e) {
+            log.warn("Failed to acquire lock {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("Lock {} is held by another node", key);
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(work.get());
+        } finally {
+            release(key, owner);
+        }
+    }
+
+    private void release(String key, String owner) {
+        try {
+            redisTemplate.execute(RELEASE, List.of(key), owner);
+        } catch (RuntimeException e) {
+            // 풀지 못한 락은 TTL 이 지나면 사라진다
+            log.warn("Failed to release lock {}: {}", key, e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.resume.make.global.response;
 
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 
 public record BaseResponse<T>(
@@ -18,6 +19,10 @@ public record BaseResponse<T>(
         return ResponseEntity.ok(new BaseResponse<>("GLOBAL_2000", "OK", body));
     }
 
+    public static <T> ResponseEntity<BaseResponse<T>> ok(T body, HttpHeaders headers) {
+        return ResponseEntity.ok().headers(headers).body(new BaseResponse<>("GLOBAL_2000", "OK", body));
+    }
+
     /**
      * 에러 응답 생성 (body 없이)
      * @param error ErrorCode 구현체
@@ -0,0 +1,112 @@
+package io.resume.make.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.resume.make.domain.auth.resilience.KakaoStubServer;
+import io.resume.make.domain.auth.resilience.KakaoStubServer.Response;
+import io.resume.make.global.http.KakaoConnectionWarmer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WebClientConfig 단위 테스트 (로컬 stub 서버)")
+class WebClientConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private KakaoStubServer auth;
+    private KakaoStubServer api;
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Metrics.addRegistry(meterRegistry);
+        auth = new KakaoStubServer();
+        api = new KakaoStubServer();
+        // HEAD 가 겹치도록 응답을 늦춘다
+        auth.respond("/", Response.status(200).after(Duration.ofMillis(200)));
+        api.respond("/", Response.status(200).after(Duration.ofMillis(200)));
+
+        WebClientConfig config = new WebClientConfig();
+        ReflectionTestUtils.setField(config, "kakaoAuthBaseUri", auth.baseUrl());
+        // 호스트 이름과 IP 주소 모두 호스트별 풀 설정이 적용되는지 본다
+        ReflectionTestUtils.setField(config, "kakaoApiBaseUri", apiBaseUrl());
+        ReflectionTestUtils.setField(config, "protocol", "http1.1");
+        ReflectionTestUtils.setField(config, "maxConnections", 10);
+        ReflectionTestUtils.setField(config, "authMaxConnections", 1);
+        ReflectionTestUtils.setField(config, "apiMaxConnections", 5);
+        ReflectionTestUtils.setField(config, "maxIdleTime", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(config, "maxLifeTime", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(config, "pendingAcquireTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(config, "evictInBackground", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(config, "dnsCacheMinTtl", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(config, "dnsCacheMaxTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(config, "dnsCacheNegativeTtl", Duration.ofSeconds(5));
+        connectionProvider = config.kakaoConnectionProvider();
+        webClient = config.webClient(connectionProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        auth.close();
+        api.close();
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("warm-up 은 호스트별 풀 크기 안에서 연결을 미리 열어 둠")
+    void warmUp_OpensConnectionsPerHostWithinLimit() {
+        // given
+        KakaoConnectionWarmer warmer = new KakaoConnectionWarmer(webClient);
+        ReflectionTestUtils.setField(warmer, "kakaoAuthBaseUri", auth.baseUrl());
+        ReflectionTestUtils.setField(warmer, "kakaoApiBaseUri", apiBaseUrl());
+        ReflectionTestUtils.setField(warmer, "connections", 3);
+        ReflectionTestUtils.setField(warmer, "timeout", Duration.ofSeconds(5));
+
+        // when
+        warmer.run(null);
+
+        // then
+        assertThat(poolGauge("max.connections", auth)).isEqualTo(1);
+        assertThat(poolGauge("max.connections", api)).isEqualTo(5);
+        assertThat(poolGauge("total.connections", auth)).isEqualTo(1);
+        assertThat(poolGauge("total.connections", api)).isEqualTo(3);
+        assertThat(poolGauge("idle.connections", api)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("풀 조회용 주소는 해석 전 host:port, 포트가 없으면 scheme 기본 포트")
+    void remoteAddress_Unresolved() {
+        InetSocketAddress address = WebClientConfig.remoteAddress("https://kapi.kakao.com");
+
+        assertThat(address.isUnresolved()).isTrue();
+        assertThat(address.getHostString()).isEqualTo("kapi.kakao.com");
+        assertThat(address.getPort()).isEqualTo(443);
+        assertThat(WebClientConfig.stripQuery("/v2/user/me?secure_resource=true")).isEqualTo("/v2/user/me");
+    }
+
+    private String apiBaseUrl() {
+        return api.baseUrl().replace("127.0.0.1", "localhost");
+    }
+
+    private double poolGauge(String name, KakaoStubServer server) {
+        String address = (server == api ? apiBaseUrl() : server.baseUrl()).substring("http://".length());
+        Gauge gauge = meterRegistry.find("reactor.netty.connection.provider." + name)
+                .tag("name", "kakao")
+                .tag("remote.address", address)
+                .gauge();
+        assertThat(gauge).as("%s for %s in %s", name, address, meterRegistry.getMetersAsString()).isNotNull();
+        return gauge.value();
+    }
+}
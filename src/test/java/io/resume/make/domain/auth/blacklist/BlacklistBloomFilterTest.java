@@ -0,0 +1,274 @@
+package io.resume.make.domain.auth.blacklist;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.resume.make.domain.auth.repository.BlacklistedTokenRepository;
+import io.resume.make.global.lock.RedisLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("BlacklistBloomFilter 단위 테스트 (Redis 스크립트를 흉내 낸 공유 bitmap)")
+class BlacklistBloomFilterTest {
+
+    @Mock
+    private BlacklistedTokenRepository blacklistedTokenRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private RedisLock redisLock;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<String, String> meta = new HashMap<>();
+    private final Map<String, BitSet> bitmaps = new HashMap<>();
+    private boolean failWrites;
+
+    private BlacklistBloomFilter nodeA;
+    private BlacklistBloomFilter nodeB;
+
+    @BeforeEach
+    void setUp() {
+        fakeRedis();
+        given(redisLock.runLocked(anyString(), any(), any())).willAnswer(invocation ->
+                java.util.Optional.ofNullable(invocation.<Supplier<?>>getArgument(2).get()));
+        given(blacklistedTokenRepository.countByExpiredAtAfter(any())).willReturn(1L);
+        nodeA = node();
+        nodeB = node();
+    }
+
+    @Test
+    @DisplayName("공유 필터가 없으면 항상 DB 확인이 필요하다고 답한다")
+    void mightContain_NoGeneration_AlwaysTrue() {
+        assertThat(nodeA.mightContain(sha256("not-blacklisted"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 의 블랙리스트와 다른 노드가 추가한 해시는 false negative 가 없다")
+    void mightContain_AfterBuild_NoFalseNegativeAcrossNodes() {
+        // given
+        byte[] stored = sha256("stored-token");
+        given(blacklistedTokenRepository.streamTokenHashesByExpiredAtAfter(any())).willReturn(Stream.of(stored));
+        nodeA.rebuild();
+        nodeB.start();
+
+        // when
+        byte[] added = sha256("added-token");
+        nodeA.add(added);
+
+        // then
+        assertThat(nodeB.mightContain(stored)).isTrue();
+        assertThat(nodeB.mightContain(added)).isTrue();
+        long positives = IntStream.range(0, 1000)
+                .filter(i -> nodeB.mightContain(sha256("other-" + i)))
+                .count();
+        assertThat(positives).isLessThan(50);
+    }
+
+    @Test
+    @DisplayName("rebuild 중에 다른 노드가 추가한 해시도 새 세대에 남고, 이전 세대는 지워짐")
+    void rebuild_AddDuringBuild_KeptInNewGeneration() {
+        // given
+        given(blacklistedTokenRepository.streamTokenHashesByExpiredAtAfter(any())).willReturn(Stream.empty());
+        nodeA.rebuild();
+        String firstKey = liveKey();
+        byte[] addedWhileBuilding = sha256("added-while-building");
+        given(blacklistedTokenRepository.streamTokenHashesByExpiredAtAfter(any())).willAnswer(invocation -> {
+            nodeB.add(addedWhileBuilding);
+            return Stream.empty();
+        });
+
+        // when
+        sleep();
+        nodeA.rebuild();
+
+        // then
+        assertThat(liveKey()).isNotEqualTo(firstKey);
+        assertThat(bitmaps).doesNotContainKey(firstKey);
+        assertThat(nodeB.mightContain(addedWhileBuilding)).isTrue();
+        assertThat(nodeA.mightContain(addedWhileBuilding)).isTrue();
+    }
+
+    @Test
+    @DisplayName("bitmap 이 사라지거나 한 노드가 기록에 실패하면 모든 노드가 DB 로 확인")
+    void mightContain_BitmapLostOrWriteFailed_FallsBackToDb() {
+        // given
+        given(blacklistedTokenRepository.streamTokenHashesByExpiredAtAfter(any())).willReturn(Stream.empty());
+        nodeA.rebuild();
+        nodeB.start();
+        byte[] unknown = sha256("never-added");
+        assertThat(nodeB.mightContain(unknown)).isFalse();
+
+        // when: flush/evict
+        bitmaps.clear();
+
+        // then
+        assertThat(nodeB.mightContain(unknown)).isTrue();
+
+        // given: 새 세대
+        given(blacklistedTokenRepository.streamTokenHashesByExpiredAtAfter(any())).willReturn(Stream.empty());
+        sleep();
+        nodeA.rebuild();
+        byte[] revoked = sha256("revoked-during-outage");
+        failWrites = true;
+
+        // when: 노드 A 의 비트 기록 실패
+        nodeA.add(revoked);
+
+        // then
+        failWrites = false;
+        assertThat(meta).doesNotContainKey("live");
+        assertThat(nodeB.mightContain(revoked)).isTrue();
+    }
+
+    private BlacklistBloomFilter node() {
+        BlacklistBloomFilter filter = new BlacklistBloomFilter(blacklistedTokenRepository, redisTemplate, redisLock,
+                transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "fpp", 0.01);
+        ReflectionTestUtils.setField(filter, "minCapacity", 1000L);
+        ReflectionTestUtils.setField(filter, "headroom", 2.0);
+        ReflectionTestUtils.setField(filter, "generationTtl", Duration.ofHours(3));
+        ReflectionTestUtils.setField(filter, "lockTtl", Duration.ofMinutes(10));
+        filter.init();
+        return filter;
+    }
+
+    private String liveKey() {
+        return BlacklistBloomFilter.Generation.parse(meta.get("live")).key();
+    }
+
+    /**
+     * meta 해시와 bitmap 을 메모리에 두고 스크립트를 Lua 와 같은 규칙으로 처리한다
+     */
+    private void fakeRedis() {
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.get(eq(BlacklistBloomFilter.META_KEY), any()))
+                .willAnswer(invocation -> meta.get((String) invocation.getArgument(1)));
+        given(hashOperations.multiGet(eq(BlacklistBloomFilter.META_KEY), anyCollection()))
+                .willAnswer(invocation -> {
+                    List<Object> values = new ArrayList<>();
+                    invocation.<List<Object>>getArgument(1).forEach(field -> values.add(meta.get((String) field)));
+                    return values;
+                });
+        willAnswer(invocation -> meta.put(invocation.getArgument(1), invocation.getArgument(2)))
+                .given(hashOperations).put(eq(BlacklistBloomFilter.META_KEY), any(), any());
+        willAnswer(invocation -> meta.remove((String) invocation.getArgument(1)) == null ? 0L : 1L)
+                .given(hashOperations).delete(eq(BlacklistBloomFilter.META_KEY), any());
+        given(redisTemplate.delete(anyString())).willAnswer(invocation -> bitmaps.remove((String) invocation.getArgument(0)) != null);
+        given(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class))).willAnswer(invocation -> {
+            Object[] raw = invocation.getRawArguments();
+            List<String> keys = invocation.getArgument(1);
+            Object[] args = (Object[]) raw[2];
+            return script((RedisScript<?>) raw[0], keys, args);
+        });
+    }
+
+    private Long script(RedisScript<?> script, List<String> keys, Object[] args) {
+        String live = meta.getOrDefault("live", "");
+        String next = meta.getOrDefault("next", "");
+        if (script == BlacklistBloomFilter.CHECK) {
+            if (!live.equals(args[0])) {
+                return -1L;
+            }
+            BitSet bits = bitmaps.getOrDefault(keys.get(1), new BitSet());
+            if (!bits.get(offset(args[1]))) {
+                return -2L;
+            }
+            for (int i = 2; i < args.length; i++) {
+                if (!bits.get(offset(args[i]))) {
+                    return 0L;
+                }
+            }
+            return 1L;
+        }
+        if (script == BlacklistBloomFilter.ADD) {
+            if (failWrites) {
+                throw new RedisConnectionFailureException("down");
+            }
+            if (!live.equals(args[0]) || !next.equals(args[1])) {
+                return -1L;
+            }
+            int n = Integer.parseInt((String) args[2]);
+            for (int i = 3; i < args.length; i++) {
+                bitmaps.computeIfAbsent(keys.get(i < 3 + n ? 1 : 2), key -> new BitSet()).set(offset(args[i]));
+            }
+            return 1L;
+        }
+        if (script == BlacklistBloomFilter.SET_BITS) {
+            for (Object arg : args) {
+                bitmaps.computeIfAbsent(keys.get(0), key -> new BitSet()).set(offset(arg));
+            }
+            return (long) args.length;
+        }
+        if (script == BlacklistBloomFilter.PROMOTE) {
+            if (!next.equals(args[0]) || !live.equals(args[1])) {
+                return 0L;
+            }
+            meta.put("live", (String) args[0]);
+            meta.remove("next");
+            if (!"".equals(args[1])) {
+                bitmaps.remove(keys.get(1));
+            }
+            return 1L;
+        }
+        throw new IllegalArgumentException("unknown script");
+    }
+
+    private static int offset(Object arg) {
+        return Integer.parseInt((String) arg);
+    }
+
+    private static void sleep() {
+        // 세대 이름이 밀리초 시각이므로 다음 rebuild 가 다른 키를 쓰도록
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.resume.make.domain.auth.blacklist;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.resume.make.global.lock.RedisLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BlacklistPartitionMaintainer 단위 테스트")
+class BlacklistPartitionMaintainerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private RedisLock redisLock;
+
+    private BlacklistPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        maintainer = new BlacklistPartitionMaintainer(jdbcTemplate, redisLock, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(maintainer, "retention", "partition");
+        ReflectionTestUtils.setField(maintainer, "daysAhead", 2);
+    }
+
+    @Test
+    @DisplayName("미래 파티션을 만들고 만료된 파티션을 DROP")
+    void maintain_CreatesAheadAndDropsExpired() {
+        // given
+        given(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                .willReturn(List.of("p20261015", "p20261016", "p20261017", "pmax"));
+
+        // when
+        int dropped = maintainer.maintain(LocalDate.of(2026, 10, 17));
+
+        // then
+        assertThat(dropped).isEqualTo(2);
+        then(jdbcTemplate).should().execute("ALTER TABLE blacklisted_refresh_token REORGANIZE PARTITION pmax INTO ("
+                + "PARTITION p20261018 VALUES LESS THAN ('2026-10-19'), "
+                + "PARTITION p20261019 VALUES LESS THAN ('2026-10-20'), "
+                + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+        then(jdbcTemplate).should().execute("ALTER TABLE blacklisted_refresh_token DROP PARTITION p20261015, p20261016");
+    }
+
+    @Test
+    @DisplayName("파티션 메타데이터가 없는 DB(H2) - 비활성")
+    void init_NoPartitionMetadata_Inactive() {
+        // given
+        given(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                .willThrow(new BadSqlGrammarException("partitions", "SELECT", new SQLException("not found")));
+
+        // when
+        maintainer.init();
+
+        // then
+        assertThat(maintainer.isActive()).isFalse();
+        then(redisLock).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,75 @@
+package io.resume.make.domain.auth.blacklist;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.resume.make.domain.auth.repository.BlacklistedTokenRepository;
+import io.resume.make.global.lock.RedisLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BlacklistPurgeJob 단위 테스트")
+class BlacklistPurgeJobTest {
+
+    @Mock
+    private BlacklistedTokenRepository blacklistedTokenRepository;
+
+    @Mock
+    private RedisLock redisLock;
+
+    @Mock
+    private BlacklistPartitionMaintainer partitionMaintainer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BlacklistPurgeJob purgeJob;
+
+    @BeforeEach
+    void setUp() {
+        purgeJob = new BlacklistPurgeJob(blacklistedTokenRepository, redisLock, partitionMaintainer, meterRegistry);
+        ReflectionTestUtils.setField(purgeJob, "batchSize", 2);
+        ReflectionTestUtils.setField(purgeJob, "pause", Duration.ZERO);
+        ReflectionTestUtils.setField(purgeJob, "lockTtl", Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차지 않을 때까지 나눠서 삭제")
+    void purge_DeletesInBatchesUntilShortBatch() {
+        // given
+        given(blacklistedTokenRepository.deleteExpiredBatch(any(), eq(2))).willReturn(2, 2, 1);
+
+        // when
+        long deleted = purgeJob.purge();
+
+        // then
+        assertThat(deleted).isEqualTo(5);
+        then(blacklistedTokenRepository).should(times(3)).deleteExpiredBatch(any(), eq(2));
+        assertThat(meterRegistry.get("auth.blacklist.purge.rows").counter().count()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("auth.blacklist.purge.duration").tag("result", "completed").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 잡고 있으면 실행하지 않음")
+    void run_LockHeldElsewhere_Skips() {
+        // given
+        given(redisLock.runLocked(eq(BlacklistPurgeJob.LOCK_NAME), any(), any())).willReturn(Optional.empty());
+
+        // when
+        purgeJob.run();
+
+        // then
+        then(blacklistedTokenRepository).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,176 @@
+package io.resume.make.domain.auth.blacklist;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BlacklistWriteBehind 단위 테스트")
+class BlacklistWriteBehindTest {
+
+    private static final String MULTI_ROW = "(?, ?, ?, ?), (?, ?, ?, ?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BlacklistWriteBehind writeBehind;
+    private final AtomicInteger afterWrites = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        writeBehind = new BlacklistWriteBehind(jdbcTemplate, meterRegistry);
+        ReflectionTestUtils.setField(writeBehind, "enabled", true);
+        ReflectionTestUtils.setField(writeBehind, "queueCapacity", 3);
+        ReflectionTestUtils.setField(writeBehind, "batchSize", 10);
+        // 주기 flush 가 끼어들지 않도록 길게
+        ReflectionTestUtils.setField(writeBehind, "flushInterval", Duration.ofHours(1));
+        writeBehind.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeBehind.shutdown();
+    }
+
+    @Test
+    @DisplayName("add 는 큐에 넣고 바로 돌아가고, 대기 항목은 multi-row INSERT 한 번으로 기록")
+    void flush_WritesQueuedEntriesInOneStatement() {
+        // given
+        byte[] first = hash(1);
+        byte[] second = hash(2);
+        assertThat(add(first)).isTrue();
+        assertThat(add(second)).isTrue();
+        then(jdbcTemplate).shouldHaveNoInteractions();
+        assertThat(writeBehind.isPending(first)).isTrue();
+
+        // when
+        int flushed = writeBehind.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        then(jdbcTemplate).should().update(
+                argThat((String sql) -> sql.startsWith("INSERT INTO") && sql.endsWith(MULTI_ROW)),
+                any(Object[].class));
+        assertThat(afterWrites).hasValue(2);
+        assertThat(writeBehind.isPending(first)).isFalse();
+        assertThat(writeBehind.isPending(second)).isFalse();
+    }
+
+    @Test
+    @DisplayName("배치에 이미 폐기된 토큰이 섞이면 한 행씩 다시 기록하고 중복 행은 그대로 정리")
+    void flush_DuplicateInBatch_ResolvedPerRow() {
+        // given
+        byte[] duplicate = hash(1);
+        byte[] fresh = hash(2);
+        given(jdbcTemplate.update(anyString(), any(Object[].class))).willAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            Object[] args = (Object[]) invocation.getRawArguments()[1];
+            if (sql.endsWith(MULTI_ROW) || args[1] == duplicate) {
+                throw new DuplicateKeyException("ux_token_hash");
+            }
+            return 1;
+        });
+        add(duplicate);
+        add(fresh);
+
+        // when
+        writeBehind.flush();
+
+        // then
+        then(jdbcTemplate).should(times(3)).update(anyString(), any(Object[].class));
+        assertThat(writeBehind.isPending(duplicate)).isFalse();
+        assertThat(writeBehind.isPending(fresh)).isFalse();
+        assertThat(afterWrites).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("기록에 실패한 행은 대기 목록에 남아 다시 기록되고, 최대 시도 후에야 버려짐")
+    void flush_RowFailure_RetriedThenDropped() {
+        // given
+        byte[] tokenHash = hash(1);
+        given(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .willThrow(new DataAccessResourceFailureException("connection lost"));
+        add(tokenHash);
+
+        // when
+        writeBehind.flush();
+
+        // then: 다음 flush 까지 재사용은 계속 걸린다
+        assertThat(writeBehind.isPending(tokenHash)).isTrue();
+        assertThat(afterWrites).hasValue(0);
+
+        // when
+        for (int i = 1; i < BlacklistWriteBehind.MAX_ATTEMPTS; i++) {
+            writeBehind.flush();
+        }
+
+        // then
+        assertThat(writeBehind.isPending(tokenHash)).isFalse();
+        assertThat(afterWrites).hasValue(1);
+        assertThat(meterRegistry.counter("auth.blacklist.write_behind.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 기록 중이면 false, 큐가 가득 차면 호출 스레드에서 바로 기록")
+    void add_InFlightDuplicateAndFullQueue() {
+        // given
+        add(hash(1));
+        add(hash(2));
+        add(hash(3));
+
+        // when & then
+        assertThat(add(hash(1))).isFalse();
+        assertThat(add(hash(4))).isTrue();
+        then(jdbcTemplate).should().update(argThat((String sql) -> sql.endsWith(") VALUES (?, ?, ?, ?)")), any(Object[].class));
+        assertThat(writeBehind.isPending(hash(4))).isFalse();
+        assertThat(writeBehind.isPending(hash(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 찬 상태에서 직접 기록이 중복이면 false, 실패하면 예외")
+    void add_FullQueue_SynchronousResult() {
+        // given
+        add(hash(1));
+        add(hash(2));
+        add(hash(3));
+        given(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .willThrow(new DuplicateKeyException("ux_token_hash"))
+                .willThrow(new DataAccessResourceFailureException("connection lost"));
+
+        // when & then
+        assertThat(add(hash(4))).isFalse();
+        assertThatThrownBy(() -> add(hash(5))).isInstanceOf(DataAccessException.class);
+        assertThat(writeBehind.isPending(hash(5))).isFalse();
+    }
+
+    private boolean add(byte[] tokenHash) {
+        return writeBehind.add(tokenHash, UUID.randomUUID(), Instant.now().plusSeconds(60), afterWrites::incrementAndGet);
+    }
+
+    private static byte[] hash(int seed) {
+        byte[] hash = new byte[32];
+        hash[0] = (byte) seed;
+        return hash;
+    }
+}
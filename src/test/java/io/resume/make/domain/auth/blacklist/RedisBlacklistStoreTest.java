@@ -0,0 +1,80 @@
+package io.resume.make.domain.auth.blacklist;
+
+import io.resume.make.global.exception.BusinessException;
+import io.resume.make.global.response.GlobalErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisBlacklistStore 단위 테스트")
+class RedisBlacklistStoreTest {
+
+    @InjectMocks
+    private RedisBlacklistStore blacklistStore;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final byte[] tokenHash = new byte[32];
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("SET NX 성공 - 남은 수명만큼 TTL 을 두고 추가")
+    void add_NewToken_SetsWithRemainingTtl() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(RedisBlacklistStore.key(tokenHash)), eq(userId.toString()), any(Duration.class)))
+                .willReturn(true);
+
+        // when
+        boolean added = blacklistStore.add(tokenHash, userId, Instant.now().plusSeconds(600));
+
+        // then
+        assertThat(added).isTrue();
+        then(valueOperations).should().setIfAbsent(anyString(), anyString(),
+                argThat((Duration ttl) -> ttl.compareTo(Duration.ofSeconds(600)) <= 0 && ttl.compareTo(Duration.ofSeconds(590)) > 0));
+    }
+
+    @Test
+    @DisplayName("이미 있는 토큰 - false 반환")
+    void add_ExistingToken_ReturnsFalse() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+        // when & then
+        assertThat(blacklistStore.add(tokenHash, userId, Instant.now().plusSeconds(600))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - SERVICE_UNAVAILABLE")
+    void add_RedisDown_ServiceUnavailable() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThatThrownBy(() -> blacklistStore.add(tokenHash, userId, Instant.now().plusSeconds(600)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.SERVICE_UNAVAILABLE);
+    }
+}
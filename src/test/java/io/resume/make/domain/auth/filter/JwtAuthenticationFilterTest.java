@@ -1,8 +1,11 @@
 package io.resume.make.domain.auth.filter;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.resume.make.domain.auth.dto.AuthUser;
 import io.resume.make.domain.auth.jwt.JwtTokenProvider;
-import io.resume.make.domain.user.entity.User;
-import io.resume.make.domain.user.repository.UserRepository;
+import io.resume.make.domain.auth.jwt.VerifiedToken;
+import io.resume.make.domain.auth.metrics.AuthMetrics;
+import io.resume.make.domain.user.service.UserCacheService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,11 +14,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.util.Optional;
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -32,7 +36,15 @@ class JwtAuthenticationFilterTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private UserRepository userRepository;
+    private UserCacheService userCacheService;
+
+    @Mock
+    private AccessTokenCache accessTokenCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private AuthMetrics authMetrics = new AuthMetrics(meterRegistry);
 
     @Mock
     private HttpServletRequest request;
@@ -49,17 +61,12 @@ class JwtAuthenticationFilterTest {
         // given
         String token = "valid-jwt-token";
         UUID userId = UUID.randomUUID();
-        User user = User.builder()
-                .provider("kakao")
-                .providerId("123456")
-                .email("test@example.com")
-                .name("테스트유저")
-                .build();
+        AuthUser principal = new AuthUser(userId, "test@example.com");
 
         given(request.getHeader("Authorization")).willReturn("Bearer " + token);
-        given(jwtTokenProvider.validateToken(token)).willReturn(true);
-        given(jwtTokenProvider.extractUserId(token)).willReturn(userId);
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(jwtTokenProvider.verify(token)).willReturn(new VerifiedToken(
+                userId, "test@example.com", VerifiedToken.ACCESS, Instant.now(), Instant.now().plusSeconds(3600)));
+        given(userCacheService.exists(userId)).willReturn(true);
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -67,15 +74,101 @@ class JwtAuthenticationFilterTest {
         // then
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNotNull();
-        assertThat(authentication.getPrincipal()).isEqualTo(user);
+        assertThat(authentication.getPrincipal()).isEqualTo(principal);
+        assertThat(authentication.getName()).isEqualTo(userId.toString());
         assertThat(authentication.isAuthenticated()).isTrue();
 
+        verify(accessTokenCache).put(eq(token), any(VerifiedToken.class), eq(principal));
         verify(filterChain).doFilter(request, response);
 
         // Clean up
         SecurityContextHolder.clearContext();
     }
 
+    @Test
+    @DisplayName("존재하지 않는 회원의 토큰 - 인증하지 않음")
+    void doFilterInternal_UnknownUser_NotAuthenticated() throws Exception {
+        // given
+        String token = "orphan-jwt-token";
+        UUID userId = UUID.randomUUID();
+
+        given(request.getHeader("Authorization")).willReturn("Bearer " + token);
+        given(jwtTokenProvider.verify(token)).willReturn(new VerifiedToken(
+                userId, "test@example.com", VerifiedToken.ACCESS, Instant.now(), Instant.now().plusSeconds(3600)));
+        given(userCacheService.exists(userId)).willReturn(false);
+
+        // when
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(accessTokenCache, never()).put(anyString(), any(), any());
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰 - 서명 검증과 회원 조회 없이 인증")
+    void doFilterInternal_CachedToken_SkipsVerifyAndLookup() throws Exception {
+        // given
+        String token = "cached-jwt-token";
+        AuthUser principal = new AuthUser(UUID.randomUUID(), "test@example.com");
+
+        given(request.getHeader("Authorization")).willReturn("Bearer " + token);
+        given(accessTokenCache.get(token)).willReturn(principal);
+
+        // when
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(principal);
+        verify(jwtTokenProvider, never()).verify(anyString());
+        verify(userCacheService, never()).exists(any());
+        verify(filterChain).doFilter(request, response);
+
+        // Clean up
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("refresh 토큰으로는 인증하지 않음 - 토큰은 한 번만 검증")
+    void doFilterInternal_RefreshToken_NotAuthenticated() throws Exception {
+        // given
+        String token = "refresh-jwt-token";
+        UUID userId = UUID.randomUUID();
+
+        given(request.getHeader("Authorization")).willReturn("Bearer " + token);
+        given(jwtTokenProvider.verify(token)).willReturn(new VerifiedToken(
+                userId, "test@example.com", VerifiedToken.REFRESH, Instant.now(), Instant.now().plusSeconds(3600)));
+
+        // when
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(jwtTokenProvider, times(1)).verify(token);
+        verify(userCacheService, never()).exists(any());
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("예상하지 못한 오류는 error_code=internal 로 기록하고 같은 타이머를 재사용")
+    void doFilterInternal_UnexpectedError_BoundedErrorCode() throws Exception {
+        // given
+        given(request.getHeader("Authorization")).willReturn("Bearer broken-token");
+        given(jwtTokenProvider.verify("broken-token"))
+                .willThrow(new IllegalStateException("boom"), new UnsupportedOperationException("boom"));
+
+        // when
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        assertThat(meterRegistry.get("auth.filter").tags("outcome", "error").timers()).hasSize(1);
+        assertThat(meterRegistry.get("auth.filter").tags("outcome", "error", "error_code", AuthMetrics.INTERNAL).timer().count())
+                .isEqualTo(2);
+        verify(filterChain, times(2)).doFilter(request, response);
+    }
+
     @Test
     @DisplayName("OAuth 경로는 필터 제외 - /auth/kakao/url")
     void shouldNotFilter_OAuthUrlPath_ReturnsTrue() throws Exception {
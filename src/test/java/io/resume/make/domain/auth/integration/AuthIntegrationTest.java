@@ -12,7 +12,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -45,9 +44,6 @@ class AuthIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
-    @Autowired
-    private RedisTemplate<String, String> redisTemplate;
-
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
@@ -55,7 +51,6 @@ class AuthIntegrationTest {
 
     @AfterEach
     void tearDown() {
-        redisTemplate.getConnectionFactory().getConnection().flushDb();
         userRepository.deleteAll();
     }
 
@@ -90,10 +85,8 @@ class AuthIntegrationTest {
         assertThat(loginUrl).contains("code_challenge=" + codeChallenge);
         assertThat(state).isNotNull();
 
-        // Redis에 저장되었는지 확인
-        String key = "oauth:state:" + state;
-        String storedChallenge = redisTemplate.opsForValue().get(key);
-        assertThat(storedChallenge).isEqualTo(codeChallenge);
+        // 발급한 state 로 codeChallenge 를 꺼낼 수 있는지 확인
+        assertThat(stateManager.validateAndConsumeState(state)).isEqualTo(codeChallenge);
     }
 
     @Test
@@ -0,0 +1,151 @@
+package io.resume.make.domain.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.resume.make.global.exception.BusinessException;
+import io.resume.make.global.response.GlobalErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JwtTokenProvider 단위 테스트")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-minimum-32-characters-long";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private CompactJwsVerifier compactVerifier;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpirationTime", 3600000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenExpirationTime", 1209600000L);
+        jwtTokenProvider.init();
+        compactVerifier = (CompactJwsVerifier) ReflectionTestUtils.getField(jwtTokenProvider, "compactVerifier");
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 전용 검증기에서 처리되고 jjwt 결과와 같다")
+    void verify_IssuedToken_FastPathMatchesJjwt() {
+        // given
+        UUID userId = UUID.randomUUID();
+        String token = jwtTokenProvider.generateAccessToken(userId, "test@example.com");
+
+        // when
+        VerifiedToken fast = compactVerifier.verify(token);
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+
+        // then
+        assertThat(fast).isNotNull();
+        assertThat(verified).isEqualTo(fast);
+        assertThat(verified.userId()).isEqualTo(userId);
+        assertThat(verified.email()).isEqualTo("test@example.com");
+        assertThat(verified.isAccessToken()).isTrue();
+        assertThat(verified.expiresAt()).isAfter(verified.issuedAt());
+        assertThat(compactVerifier.verifiedExpiry(token)).isEqualTo(verified.expiresAt().getEpochSecond());
+        assertThat(jwtTokenProvider.validateToken(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("refresh 토큰의 jti/family 는 전용 검증기와 jjwt 에서 같게 읽힌다")
+    void verify_RefreshToken_CarriesFamily() {
+        // given
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        String token = jwtTokenProvider.generateRefreshToken(UUID.randomUUID(), "test@example.com", familyId, tokenId);
+
+        // when
+        VerifiedToken fast = compactVerifier.verify(token);
+        Claims claims = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+
+        // then
+        assertThat(fast).isNotNull();
+        assertThat(fast.hasFamily()).isTrue();
+        assertThat(fast.tokenId()).isEqualTo(tokenId).isEqualTo(claims.getId());
+        assertThat(fast.familyId()).isEqualTo(familyId).isEqualTo(claims.get(JwtTokenProvider.FAMILY_ID_CLAIM, String.class));
+    }
+
+    @Test
+    @DisplayName("payload 변조 - INVALID_TOKEN")
+    void verify_TamperedPayload_Invalid() {
+        // given
+        String token = jwtTokenProvider.generateRefreshToken(UUID.randomUUID(), "test@example.com");
+        String[] parts = token.split("\\.");
+        String forged = jwtTokenProvider.generateAccessToken(UUID.randomUUID(), "evil@example.com").split("\\.")[1];
+        String tampered = parts[0] + "." + forged + "." + parts[2];
+
+        // when & then
+        assertThat(compactVerifier.verify(tampered)).isNull();
+        assertThatThrownBy(() -> jwtTokenProvider.verify(tampered))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.INVALID_TOKEN);
+        assertThat(jwtTokenProvider.validateToken(tampered)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 - EXPIRED_TOKEN")
+    void verify_ExpiredToken_Expired() {
+        // given
+        String token = jwtTokenProvider.generateToken(UUID.randomUUID(), "test@example.com", VerifiedToken.ACCESS, -60000L);
+
+        // when & then
+        assertThat(compactVerifier.verifiedExpiry(token)).isEqualTo(CompactJwsVerifier.UNHANDLED);
+        assertThatThrownBy(() -> jwtTokenProvider.verify(token))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.EXPIRED_TOKEN);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰 - INVALID_TOKEN")
+    void verify_OtherKey_Invalid() {
+        // given
+        String token = Jwts.builder()
+                .subject(UUID.randomUUID().toString())
+                .claim("token_type", VerifiedToken.ACCESS)
+                .expiration(new Date(System.currentTimeMillis() + 60000L))
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-for-jwt-token-minimum-32-chars".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.verify(token))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 claim 이 있으면 jjwt 로 검증")
+    void verify_UnknownClaim_FallsBackToJjwt() {
+        // given
+        UUID userId = UUID.randomUUID();
+        String token = Jwts.builder()
+                .subject(userId.toString())
+                .claim("token_type", VerifiedToken.REFRESH)
+                .claim("scope", "extra")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60000L))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        // when
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+
+        // then
+        assertThat(compactVerifier.verify(token)).isNull();
+        assertThat(verified.userId()).isEqualTo(userId);
+        assertThat(verified.isRefreshToken()).isTrue();
+    }
+}
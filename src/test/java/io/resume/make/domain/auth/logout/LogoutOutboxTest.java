@@ -0,0 +1,66 @@
+package io.resume.make.domain.auth.logout;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.resume.make.domain.auth.entity.ProviderLogoutOutbox;
+import io.resume.make.domain.auth.repository.ProviderLogoutOutboxRepository;
+import io.resume.make.global.exception.BusinessException;
+import io.resume.make.global.response.GlobalErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogoutOutbox 단위 테스트")
+class LogoutOutboxTest {
+
+    @Mock
+    private ProviderLogoutOutboxRepository outboxRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LogoutOutbox logoutOutbox;
+
+    @BeforeEach
+    void setUp() {
+        logoutOutbox = new LogoutOutbox(outboxRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("INSERT 가 한 번 실패하면 다시 시도해 기록")
+    void enqueue_TransientFailure_Retried() {
+        // given
+        given(outboxRepository.save(any(ProviderLogoutOutbox.class)))
+                .willThrow(new DataAccessResourceFailureException("connection lost"))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        logoutOutbox.enqueue("kakao", "123456789");
+
+        // then
+        then(outboxRepository).should(times(2)).save(argThat(row -> "123456789".equals(row.getProviderId())));
+        assertThat(meterRegistry.counter("auth.logout_outbox.enqueued", "result", "retried").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다시 시도해도 실패하면 유실하지 않고 SERVICE_UNAVAILABLE")
+    void enqueue_PersistentFailure_Surfaced() {
+        // given
+        given(outboxRepository.save(any(ProviderLogoutOutbox.class)))
+                .willThrow(new DataAccessResourceFailureException("connection lost"));
+
+        // when & then
+        assertThatThrownBy(() -> logoutOutbox.enqueue("kakao", "123456789"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.SERVICE_UNAVAILABLE);
+        then(outboxRepository).should(times(2)).save(any(ProviderLogoutOutbox.class));
+        assertThat(meterRegistry.counter("auth.logout_outbox.enqueued", "result", "failed").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,159 @@
+package io.resume.make.domain.auth.logout;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.resume.make.domain.auth.entity.ProviderLogoutOutbox;
+import io.resume.make.domain.auth.entity.ProviderLogoutOutbox.Status;
+import io.resume.make.domain.auth.exception.OAuthErrorCode;
+import io.resume.make.domain.auth.repository.ProviderLogoutOutboxRepository;
+import io.resume.make.domain.auth.service.KakaoOAuthService;
+import io.resume.make.global.exception.BusinessException;
+import io.resume.make.global.lock.RedisLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProviderLogoutWorker 단위 테스트")
+class ProviderLogoutWorkerTest {
+
+    @Mock
+    private ProviderLogoutOutboxRepository outboxRepository;
+
+    @Mock
+    private KakaoOAuthService kakaoOAuthService;
+
+    @Mock
+    private RedisLock redisLock;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ProviderLogoutWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new ProviderLogoutWorker(outboxRepository, kakaoOAuthService, redisLock, meterRegistry);
+        ReflectionTestUtils.setField(worker, "batchSize", 10);
+        ReflectionTestUtils.setField(worker, "ratePerSecond", 1000);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        ReflectionTestUtils.setField(worker, "initialBackoff", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(worker, "maxBackoff", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(worker, "lockTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(worker, "deadRetention", Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("성공하면 행 삭제")
+    void drain_Success_DeletesRow() {
+        // given
+        ProviderLogoutOutbox row = row("111", 0);
+        given(outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(eq(Status.PENDING), any(), any()))
+                .willReturn(List.of(row));
+
+        // when
+        int processed = worker.drain();
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        then(kakaoOAuthService).should().logoutKakaoUser("111");
+        then(outboxRepository).should().delete(row);
+        assertThat(meterRegistry.counter("auth.logout_outbox.processed", "result", "done").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일시적 실패는 backoff 후 다시 시도")
+    void drain_TransientFailure_Reschedules() {
+        // given
+        ProviderLogoutOutbox row = row("111", 0);
+        given(outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(eq(Status.PENDING), any(), any()))
+                .willReturn(List.of(row));
+        willThrow(new BusinessException(OAuthErrorCode.KAKAO_SERVER_ERROR)).given(kakaoOAuthService).logoutKakaoUser("111");
+
+        // when
+        worker.drain();
+
+        // then
+        assertThat(row.getStatus()).isEqualTo(Status.PENDING);
+        assertThat(row.getAttempts()).isEqualTo(1);
+        assertThat(row.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(2));
+        then(outboxRepository).should().save(row);
+        then(outboxRepository).should(never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("4xx 나 최대 시도 횟수 초과는 DEAD 로 남김")
+    void drain_PermanentOrExhausted_DeadLetters() {
+        // given
+        ProviderLogoutOutbox rejected = row("111", 0);
+        ProviderLogoutOutbox exhausted = row("222", 2);
+        given(outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(eq(Status.PENDING), any(), any()))
+                .willReturn(List.of(rejected, exhausted));
+        willThrow(new BusinessException(OAuthErrorCode.KAKAO_LOGOUT_FAILED)).given(kakaoOAuthService).logoutKakaoUser("111");
+        willThrow(new BusinessException(OAuthErrorCode.KAKAO_API_TIMEOUT)).given(kakaoOAuthService).logoutKakaoUser("222");
+
+        // when
+        worker.drain();
+
+        // then
+        assertThat(rejected.getStatus()).isEqualTo(Status.DEAD);
+        assertThat(exhausted.getStatus()).isEqualTo(Status.DEAD);
+        assertThat(exhausted.getAttempts()).isEqualTo(3);
+        assertThat(meterRegistry.counter("auth.logout_outbox.processed", "result", "dead").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("circuit 이 열려 있으면 남은 행은 다음 실행으로 넘김")
+    void drain_CircuitOpen_StopsBatch() {
+        // given
+        ProviderLogoutOutbox first = row("111", 0);
+        ProviderLogoutOutbox second = row("222", 0);
+        given(outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(eq(Status.PENDING), any(), any()))
+                .willReturn(List.of(first, second));
+        willThrow(new BusinessException(OAuthErrorCode.KAKAO_API_UNAVAILABLE)).given(kakaoOAuthService).logoutKakaoUser("111");
+
+        // when
+        int processed = worker.drain();
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        then(kakaoOAuthService).should(never()).logoutKakaoUser("222");
+        assertThat(first.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 DEAD 행은 batch-size 씩 나눠 삭제")
+    void purgeDead_DeletesInBatches() {
+        // given
+        given(outboxRepository.deleteDeadBatch(any(), eq(10))).willReturn(10, 3);
+
+        // when
+        long deleted = worker.purgeDead();
+
+        // then
+        assertThat(deleted).isEqualTo(13);
+        then(outboxRepository).should(times(2))
+                .deleteDeadBatch(argThat(before -> before.isBefore(LocalDateTime.now().minusDays(6))), eq(10));
+        assertThat(meterRegistry.counter("auth.logout_outbox.purged").count()).isEqualTo(13);
+    }
+
+    private ProviderLogoutOutbox row(String providerId, int attempts) {
+        return ProviderLogoutOutbox.builder()
+                .provider("kakao")
+                .providerId(providerId)
+                .status(Status.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package io.resume.make.domain.auth.oidc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.resume.make.domain.auth.dto.KakaoUserProfile;
+import io.resume.make.domain.auth.exception.OAuthErrorCode;
+import io.resume.make.domain.auth.resilience.KakaoStubServer;
+import io.resume.make.domain.auth.resilience.KakaoStubServer.Response;
+import io.resume.make.global.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("KakaoIdTokenVerifier 단위 테스트")
+class KakaoIdTokenVerifierTest {
+
+    private static final String JWKS_PATH = "/.well-known/jwks.json";
+    private static final String ISSUER = "https://kauth.kakao.com";
+    private static final String AUDIENCE = "test_api_key";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+    private KakaoStubServer stub;
+    private KakaoJwksCache jwksCache;
+    private KakaoIdTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new KakaoStubServer();
+        stub.respond(JWKS_PATH, Response.ok(jwks("kid-1")));
+
+        jwksCache = new KakaoJwksCache(WebClient.create(), meterRegistry);
+        ReflectionTestUtils.setField(jwksCache, "enabled", true);
+        ReflectionTestUtils.setField(jwksCache, "jwksUri", stub.baseUrl() + JWKS_PATH);
+        ReflectionTestUtils.setField(jwksCache, "minRefreshInterval", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(jwksCache, "timeout", Duration.ofSeconds(2));
+        jwksCache.init();
+        jwksCache.refresh();
+
+        verifier = new KakaoIdTokenVerifier(jwksCache, meterRegistry);
+        ReflectionTestUtils.setField(verifier, "enabled", true);
+        ReflectionTestUtils.setField(verifier, "issuer", ISSUER);
+        ReflectionTestUtils.setField(verifier, "audience", AUDIENCE);
+        ReflectionTestUtils.setField(verifier, "clockSkew", Duration.ofMinutes(1));
+        verifier.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("검증에 성공하면 claim 으로 프로필 생성")
+    void verify_Valid_ReturnsProfile() {
+        // given
+        String idToken = idToken("kid-1", AUDIENCE, Instant.now().plusSeconds(600));
+
+        // when
+        Optional<KakaoUserProfile> profile = verifier.verify(idToken);
+
+        // then
+        assertThat(profile).contains(new KakaoUserProfile("123456789", "test@example.com", "테스트유저"));
+        assertThat(meterRegistry.counter("kakao.oidc.id_token", "result", "ok").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 앱(aud)이나 만료된 토큰은 INVALID_ID_TOKEN")
+    void verify_WrongAudienceOrExpired_Throws() {
+        String otherApp = idToken("kid-1", "other_api_key", Instant.now().plusSeconds(600));
+        String expired = idToken("kid-1", AUDIENCE, Instant.now().minusSeconds(3600));
+
+        assertThatThrownBy(() -> verifier.verify(otherApp))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.INVALID_ID_TOKEN);
+        assertThatThrownBy(() -> verifier.verify(expired))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.INVALID_ID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("모르는 kid 면 empty 를 돌려주고 JWKS 를 다시 받아 옴")
+    void verify_UnknownKid_FallsBackAndRefreshes() throws Exception {
+        // given
+        ReflectionTestUtils.setField(jwksCache, "minRefreshInterval", Duration.ZERO);
+        stub.respond(JWKS_PATH, Response.ok(jwks("kid-2")));
+        String idToken = idToken("kid-2", AUDIENCE, Instant.now().plusSeconds(600));
+
+        // when
+        Optional<KakaoUserProfile> first = verifier.verify(idToken);
+
+        // then
+        assertThat(first).isEmpty();
+        await(() -> jwksCache.key("kid-2").isPresent());
+        assertThat(verifier.verify(idToken)).isPresent();
+    }
+
+    @Test
+    @DisplayName("id_token 이 없으면 empty")
+    void verify_Absent_ReturnsEmpty() {
+        assertThat(verifier.verify(null)).isEmpty();
+        assertThat(meterRegistry.counter("kakao.oidc.id_token", "result", "absent").count()).isEqualTo(1);
+    }
+
+    private String idToken(String kid, String audience, Instant expiresAt) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .issuer(ISSUER)
+                .audience().add(audience).and()
+                .subject("123456789")
+                .claim("nickname", "테스트유저")
+                .claim("email", "test@example.com")
+                .issuedAt(Date.from(expiresAt.minusSeconds(3600)))
+                .expiration(Date.from(expiresAt))
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+
+    private String jwks(String kid) throws Exception {
+        Map<String, ?> jwk = Jwks.builder().key((RSAPublicKey) keyPair.getPublic()).id(kid).build();
+        return new ObjectMapper().writeValueAsString(Map.of("keys", List.of(jwk)));
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not met in time");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.resume.make.domain.auth.repository;
+
+import io.resume.make.domain.auth.entity.BlacklistedRefreshToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("BlacklistedTokenRepository 테스트 (H2 MySQL 모드)")
+class BlacklistedTokenRepositoryTest {
+
+    @Autowired
+    private BlacklistedTokenRepository blacklistedTokenRepository;
+
+    @Test
+    @DisplayName("만료된 행만 한 번에 최대 limit 개씩 삭제하고 유효한 행은 남김")
+    void deleteExpiredBatch_DeletesAtMostLimitExpiredRows() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<BlacklistedRefreshToken> rows = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            rows.add(row(i, now.minusMinutes(i)));
+        }
+        rows.add(row(10, now.plusDays(1)));
+        rows.add(row(11, now.plusDays(14)));
+        blacklistedTokenRepository.saveAllAndFlush(rows);
+
+        // when
+        int first = blacklistedTokenRepository.deleteExpiredBatch(now, 2);
+        long afterFirst = blacklistedTokenRepository.count();
+        int second = blacklistedTokenRepository.deleteExpiredBatch(now, 2);
+        int third = blacklistedTokenRepository.deleteExpiredBatch(now, 2);
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(afterFirst).isEqualTo(3);
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isZero();
+        assertThat(blacklistedTokenRepository.count()).isEqualTo(2);
+        assertThat(blacklistedTokenRepository.countByExpiredAtAfter(now)).isEqualTo(2);
+        assertThat(blacklistedTokenRepository.existsByTokenHash(hash(10))).isTrue();
+        assertThat(blacklistedTokenRepository.existsByTokenHash(hash(1))).isFalse();
+    }
+
+    private static BlacklistedRefreshToken row(int seed, LocalDateTime expiredAt) {
+        return BlacklistedRefreshToken.builder()
+                .userId(UUID.randomUUID())
+                .tokenHash(hash(seed))
+                .expiredAt(expiredAt)
+                .build();
+    }
+
+    private static byte[] hash(int seed) {
+        byte[] hash = new byte[32];
+        hash[0] = (byte) seed;
+        return hash;
+    }
+}
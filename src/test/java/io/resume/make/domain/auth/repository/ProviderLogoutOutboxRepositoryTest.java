@@ -0,0 +1,88 @@
+package io.resume.make.domain.auth.repository;
+
+import io.resume.make.domain.auth.entity.ProviderLogoutOutbox;
+import io.resume.make.domain.auth.entity.ProviderLogoutOutbox.Status;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("ProviderLogoutOutboxRepository 테스트 (H2 MySQL 모드)")
+class ProviderLogoutOutboxRepositoryTest {
+
+    @Autowired
+    private ProviderLogoutOutboxRepository outboxRepository;
+
+    @Test
+    @DisplayName("처리할 차례가 된 PENDING 행만 nextAttemptAt 순으로 batch 크기만큼")
+    void findDue_PendingOnlyOrderedAndLimited() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.saveAllAndFlush(List.of(
+                row("late", Status.PENDING, now.minusMinutes(1)),
+                row("oldest", Status.PENDING, now.minusMinutes(3)),
+                row("middle", Status.PENDING, now.minusMinutes(2)),
+                row("backoff", Status.PENDING, now.plusMinutes(5)),
+                row("dead", Status.DEAD, now.minusMinutes(10))));
+
+        // when
+        List<ProviderLogoutOutbox> due = outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                Status.PENDING, now, PageRequest.of(0, 2));
+
+        // then
+        assertThat(due).extracting(ProviderLogoutOutbox::getProviderId).containsExactly("oldest", "middle");
+        assertThat(outboxRepository.countByStatus(Status.PENDING)).isEqualTo(4);
+        assertThat(outboxRepository.countByStatus(Status.DEAD)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 DEAD 행만 한 번에 최대 limit 개씩 삭제")
+    void deleteDeadBatch_DeletesOnlyOldDeadRows() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.saveAllAndFlush(List.of(
+                row("dead-1", Status.DEAD, now),
+                row("dead-2", Status.DEAD, now),
+                row("dead-3", Status.DEAD, now),
+                row("pending", Status.PENDING, now)));
+
+        // when: 방금 만든 행은 보관 기간 안
+        int withinRetention = outboxRepository.deleteDeadBatch(now.minusDays(7), 2);
+
+        // then
+        assertThat(withinRetention).isZero();
+
+        // when: 보관 기간이 지난 것으로 보고 삭제
+        LocalDateTime before = now.plusMinutes(1);
+        int first = outboxRepository.deleteDeadBatch(before, 2);
+        int second = outboxRepository.deleteDeadBatch(before, 2);
+        int third = outboxRepository.deleteDeadBatch(before, 2);
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isZero();
+        assertThat(outboxRepository.countByStatus(Status.DEAD)).isZero();
+        assertThat(outboxRepository.countByStatus(Status.PENDING)).isEqualTo(1);
+    }
+
+    private static ProviderLogoutOutbox row(String providerId, Status status, LocalDateTime nextAttemptAt) {
+        return ProviderLogoutOutbox.builder()
+                .provider("kakao")
+                .providerId(providerId)
+                .status(status)
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+}
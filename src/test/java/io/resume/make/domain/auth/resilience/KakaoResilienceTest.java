@@ -0,0 +1,250 @@
+package io.resume.make.domain.auth.resilience;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.resume.make.domain.auth.dto.KakaoUserInfo;
+import io.resume.make.domain.auth.exception.OAuthErrorCode;
+import io.resume.make.domain.auth.resilience.KakaoStubServer.Response;
+import io.resume.make.domain.auth.service.KakaoOAuthService;
+import io.resume.make.global.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("KakaoResilience 단위 테스트 (로컬 stub 서버)")
+class KakaoResilienceTest {
+
+    private static final String USER_INFO = "/v2/user/me";
+    private static final String LOGOUT = "/v1/user/logout";
+    private static final String TOKEN = "/oauth/token";
+
+    private KakaoStubServer stub;
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new KakaoStubServer();
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordException(new KakaoResilience.FailurePredicate())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("로그아웃 4xx 는 재시도하지 않음")
+    void logout_ClientError_NotRetried() {
+        // given
+        stub.respond(LOGOUT, Response.status(400));
+        KakaoOAuthService service = service(resilience(1.0, 10, Duration.ZERO));
+
+        // when & then
+        assertThatThrownBy(() -> service.logoutKakaoUser("12345"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.KAKAO_LOGOUT_FAILED);
+        assertThat(stub.hits(LOGOUT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그아웃 5xx 는 예산 안에서 재시도")
+    void logout_ServerError_Retried() {
+        // given
+        stub.respond(LOGOUT, Response.status(500), Response.status(503), Response.ok("{}"));
+        KakaoOAuthService service = service(resilience(1.0, 10, Duration.ZERO));
+
+        // when
+        service.logoutKakaoUser("12345");
+
+        // then
+        assertThat(stub.hits(LOGOUT)).isEqualTo(3);
+        assertThat(meterRegistry.counter("kakao.api.retries", "endpoint", "kakao-logout", "result", "retried").count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("토큰 교환 5xx 는 인가 코드가 소모됐을 수 있으므로 재시도하지 않음")
+    void token_ServerError_NotRetried() {
+        // given
+        stub.respond(TOKEN, Response.status(500));
+        KakaoOAuthService service = service(resilience(1.0, 10, Duration.ZERO));
+
+        // when & then
+        assertThatThrownBy(() -> service.exchangeKakaoToken("code", "verifier", "http://localhost:3000/callback"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.KAKAO_SERVER_ERROR);
+        assertThat(stub.hits(TOKEN)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 교환이 timeout 을 넘기면 KAKAO_API_TIMEOUT, 잘못된 인가 코드는 INVALID_AUTHORIZATION_CODE")
+    void token_TimeoutAndClientError_KeepErrorCodes() {
+        // given
+        KakaoResilience resilience = resilience(1.0, 10, Duration.ZERO);
+        ReflectionTestUtils.setField(resilience, "tokenTimeout", Duration.ofMillis(200));
+        KakaoOAuthService service = service(resilience);
+        stub.respond(TOKEN,
+                Response.ok("{\"access_token\":\"late\"}").after(Duration.ofSeconds(1)),
+                Response.status(400));
+
+        // when & then
+        assertThatThrownBy(() -> service.exchangeKakaoToken("code", "verifier", "http://localhost:3000/callback"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.KAKAO_API_TIMEOUT);
+        assertThatThrownBy(() -> service.exchangeKakaoToken("code", "verifier", "http://localhost:3000/callback"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.INVALID_AUTHORIZATION_CODE);
+        assertThat(stub.hits(TOKEN)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("사용자 정보 조회가 느리면 hedge 요청의 응답을 먼저 사용")
+    void userInfo_SlowPrimary_HedgeWins() {
+        // given
+        stub.respond(USER_INFO,
+                Response.ok("{\"id\":1}").after(Duration.ofMillis(1500)),
+                Response.ok("{\"id\":2}"));
+        KakaoOAuthService service = service(resilience(1.0, 10, Duration.ofMillis(100)));
+
+        // when
+        long start = System.nanoTime();
+        KakaoUserInfo userInfo = service.getUserInfo("access-token");
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(userInfo.id()).isEqualTo(2L);
+        assertThat(elapsed).isLessThan(Duration.ofMillis(1500));
+        assertThat(stub.hits(USER_INFO)).isEqualTo(2);
+        assertThat(meterRegistry.counter("kakao.api.hedges", "endpoint", "kakao-user-info").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("hedging 이 켜져 있어도 빨리 실패한 시도에는 hedge 를 보내지 않음")
+    void userInfo_FastFailureWithHedging_OneHitPerAttempt() throws InterruptedException {
+        // given
+        stub.respond(USER_INFO, Response.status(500), Response.status(503), Response.status(401));
+        KakaoOAuthService service = service(resilience(1.0, 10, Duration.ofMillis(100)));
+
+        // when
+        assertThatThrownBy(() -> service.getUserInfo("access-token"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.KAKAO_USER_INFO_FAILED);
+        Thread.sleep(300);
+
+        // then: 첫 시도 + 재시도 2회, 시도마다 한 번
+        assertThat(stub.hits(USER_INFO)).isEqualTo(3);
+        assertThat(meterRegistry.counter("kakao.api.hedges", "endpoint", "kakao-user-info").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 예산이 없으면 hedge 도 보내지 않음")
+    void userInfo_BudgetExhausted_NoHedge() {
+        // given
+        stub.respond(USER_INFO, Response.ok("{\"id\":1}").after(Duration.ofMillis(300)));
+        KakaoOAuthService service = service(resilience(0.0, 0, Duration.ofMillis(50)));
+
+        // when
+        KakaoUserInfo userInfo = service.getUserInfo("access-token");
+
+        // then
+        assertThat(userInfo.id()).isEqualTo(1L);
+        assertThat(stub.hits(USER_INFO)).isEqualTo(1);
+        assertThat(meterRegistry.counter("kakao.api.hedges", "endpoint", "kakao-user-info").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 예산이 없으면 재시도하지 않음")
+    void userInfo_BudgetExhausted_NoRetry() {
+        // given
+        stub.respond(USER_INFO, Response.status(500));
+        KakaoOAuthService service = service(resilience(0.0, 0, Duration.ZERO));
+
+        // when & then
+        assertThatThrownBy(() -> service.getUserInfo("access-token"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.KAKAO_SERVER_ERROR);
+        assertThat(stub.hits(USER_INFO)).isEqualTo(1);
+        assertThat(meterRegistry.counter("kakao.api.retries", "endpoint", "kakao-user-info", "result", "budget_exhausted").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패가 쌓이면 circuit 이 열리고 카카오를 호출하지 않음")
+    void userInfo_CircuitOpen_FailsFast() {
+        // given
+        stub.respond(USER_INFO, Response.status(500));
+        KakaoOAuthService service = service(resilience(0.0, 0, Duration.ZERO));
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> service.getUserInfo("access-token")).isInstanceOf(BusinessException.class);
+        }
+        assertThat(circuitBreakerRegistry.circuitBreaker("kakao-user-info").getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        int hits = stub.hits(USER_INFO);
+
+        // when & then
+        assertThatThrownBy(() -> service.getUserInfo("access-token"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.KAKAO_API_UNAVAILABLE);
+        assertThat(stub.hits(USER_INFO)).isEqualTo(hits);
+    }
+
+    @Test
+    @DisplayName("4xx 는 circuit breaker 실패로 세지 않음")
+    void userInfo_ClientError_DoesNotOpenCircuit() {
+        // given
+        stub.respond(USER_INFO, Response.status(401));
+        KakaoOAuthService service = service(resilience(1.0, 10, Duration.ZERO));
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> service.getUserInfo("access-token"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.KAKAO_USER_INFO_FAILED);
+        }
+
+        // then
+        assertThat(circuitBreakerRegistry.circuitBreaker("kakao-user-info").getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(stub.hits(USER_INFO)).isEqualTo(4);
+    }
+
+    private KakaoResilience resilience(double budgetRatio, int budgetMinPerSecond, Duration hedgeDelay) {
+        KakaoResilience resilience = new KakaoResilience(circuitBreakerRegistry, BulkheadRegistry.ofDefaults(), meterRegistry);
+        ReflectionTestUtils.setField(resilience, "tokenTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(resilience, "userInfoTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(resilience, "logoutTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(resilience, "hedgeDelay", hedgeDelay);
+        ReflectionTestUtils.setField(resilience, "maxRetries", 2);
+        ReflectionTestUtils.setField(resilience, "backoff", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(resilience, "budgetRatio", budgetRatio);
+        ReflectionTestUtils.setField(resilience, "budgetMinPerSecond", budgetMinPerSecond);
+        resilience.init();
+        return resilience;
+    }
+
+    private KakaoOAuthService service(KakaoResilience resilience) {
+        KakaoOAuthService service = new KakaoOAuthService(null, WebClient.create(), null, resilience);
+        ReflectionTestUtils.setField(service, "apiKey", "test_api_key");
+        ReflectionTestUtils.setField(service, "clientSecret", "test_client_secret");
+        ReflectionTestUtils.setField(service, "kakaoBaseUri", stub.baseUrl());
+        ReflectionTestUtils.setField(service, "kakaoApiBaseUri", stub.baseUrl());
+        ReflectionTestUtils.setField(service, "adminKey", "test_admin_key");
+        return service;
+    }
+}
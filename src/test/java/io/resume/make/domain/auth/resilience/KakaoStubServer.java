@@ -0,0 +1,89 @@
+package io.resume.make.domain.auth.resilience;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 카카오 API. 경로마다 응답 지연과 상태 코드를 바꿔 가며 장애를 흉내 낸다.
+ * 호출마다 {@link #respond} 로 정한 응답을 차례로 쓰고, 마지막 응답은 이후 호출에도 계속 쓴다.
+ */
+public class KakaoStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, Response[]> responses = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+    public KakaoStubServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public KakaoStubServer respond(String path, Response... sequence) {
+        responses.put(path, sequence);
+        hits.remove(path);
+        return this;
+    }
+
+    public int hits(String path) {
+        AtomicInteger count = hits.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        int index = hits.computeIfAbsent(path, key -> new AtomicInteger()).getAndIncrement();
+        Response[] sequence = responses.getOrDefault(path, new Response[]{Response.ok("{}")});
+        Response response = sequence[Math.min(index, sequence.length - 1)];
+        try {
+            Thread.sleep(response.delay().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        boolean head = "HEAD".equals(exchange.getRequestMethod());
+        try (OutputStream out = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(response.status(), head || body.length == 0 ? -1 : body.length);
+            if (!head) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 timeout/hedging 으로 먼저 끊은 경우
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    public record Response(int status, String body, Duration delay) {
+        public static Response ok(String body) {
+            return new Response(200, body, Duration.ZERO);
+        }
+
+        public static Response status(int status) {
+            return new Response(status, "{\"msg\":\"stub\"}", Duration.ZERO);
+        }
+
+        public Response after(Duration delay) {
+            return new Response(status, body, delay);
+        }
+    }
+}
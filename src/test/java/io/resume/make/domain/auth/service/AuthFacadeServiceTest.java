@@ -1,10 +1,21 @@
 package io.resume.make.domain.auth.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.resume.make.domain.auth.dto.KakaoTokenResponse;
+import io.resume.make.domain.auth.dto.KakaoUserInfo;
+import io.resume.make.domain.auth.dto.KakaoUserProfile;
 import io.resume.make.domain.auth.dto.LoginResponse;
 import io.resume.make.domain.auth.exception.OAuthErrorCode;
+import io.resume.make.domain.auth.filter.AccessTokenCache;
+import io.resume.make.domain.auth.logout.LogoutOutbox;
+import io.resume.make.domain.auth.metrics.AuthMetrics;
+import io.resume.make.domain.auth.oidc.KakaoIdTokenVerifier;
+import io.resume.make.domain.user.dto.UserSnapshot;
 import io.resume.make.domain.user.entity.User;
 import io.resume.make.domain.user.repository.UserRepository;
+import io.resume.make.domain.user.repository.UserUpsertRepository.Status;
+import io.resume.make.domain.user.repository.UserUpsertRepository.UpsertResult;
+import io.resume.make.domain.user.service.UserCacheService;
 import io.resume.make.global.exception.BusinessException;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.DisplayName;
@@ -12,12 +23,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.util.Base64;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -38,12 +52,32 @@ class AuthFacadeServiceTest {
     @Mock
     private KakaoOAuthService kakaoOAuthService;
 
+    @Mock
+    private KakaoIdTokenVerifier kakaoIdTokenVerifier;
+
     @Mock
     private TokenService tokenService;
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCacheService userCacheService;
+
+    @Mock
+    private AccessTokenCache accessTokenCache;
+
+    @Mock
+    private LogoutOutbox logoutOutbox;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private AuthMetrics authMetrics = new AuthMetrics(meterRegistry);
+
+    @Spy
+    private Scheduler authDbScheduler = Schedulers.boundedElastic();
+
     @Mock
     private HttpServletResponse response;
 
@@ -67,24 +101,19 @@ class AuthFacadeServiceTest {
                 "kakao-refresh-token",
                 3600L,
                 86400L,
+                null,
                 null
         );
 
-        Map<String, Object> userInfo = Map.of(
-                "id", 123456789L,
-                "kakao_account", Map.of(
-                        "email", "test@example.com",
-                        "profile", Map.of("nickname", "테스트유저")
+        KakaoUserInfo userInfo = new KakaoUserInfo(
+                123456789L,
+                new KakaoUserInfo.KakaoAccount(
+                        "test@example.com",
+                        new KakaoUserInfo.Profile("테스트유저"),
+                        null
                 )
         );
 
-        User newUser = User.builder()
-                .provider("kakao")
-                .providerId("123456789")
-                .email("test@example.com")
-                .name("테스트유저")
-                .build();
-
         LoginResponse expectedResponse = LoginResponse.builder()
                 .accessToken("jwt-access-token")
                 .userId(UUID.randomUUID())
@@ -96,12 +125,13 @@ class AuthFacadeServiceTest {
         given(stateManager.validateAndConsumeState(state)).willReturn(expectedCodeChallenge);
         given(kakaoOAuthService.exchangeKakaoToken(code, codeVerifier, redirectUri)).willReturn(tokenResponse);
         given(kakaoOAuthService.getUserInfo("kakao-access-token")).willReturn(userInfo);
-        given(userRepository.findByProviderAndProviderId("kakao", "123456789")).willReturn(Optional.empty());
-        given(userRepository.save(any(User.class))).willReturn(newUser);
-        given(tokenService.issueTokens(any(User.class), eq(response))).willReturn(expectedResponse);
+        UUID newUserId = UUID.randomUUID();
+        given(userRepository.upsert("kakao", "123456789", "test@example.com", "테스트유저"))
+                .willReturn(new UpsertResult(newUserId, Status.CREATED, "test@example.com", "테스트유저"));
+        given(tokenService.issueTokens(any(User.class))).willReturn(expectedResponse);
 
         // when
-        LoginResponse result = authFacadeService.processKakaoLogin(code, state, codeVerifier, redirectUri, response);
+        LoginResponse result = authFacadeService.processKakaoLogin(code, state, codeVerifier, redirectUri);
 
         // then
         assertThat(result).isNotNull();
@@ -109,10 +139,64 @@ class AuthFacadeServiceTest {
         assertThat(result.refreshToken()).isEqualTo("jwt-refresh-token");
 
         verify(stateManager).validateAndConsumeState(state);
+        verify(stateManager).markStateUsed(state);
         verify(kakaoOAuthService).exchangeKakaoToken(code, codeVerifier, redirectUri);
         verify(kakaoOAuthService).getUserInfo("kakao-access-token");
-        verify(userRepository).save(any(User.class));
-        verify(tokenService).issueTokens(any(User.class), eq(response));
+        verify(userRepository).upsert("kakao", "123456789", "test@example.com", "테스트유저");
+        verify(userRepository, never()).save(any(User.class));
+        verify(userCacheService).put(argThat(user -> newUserId.equals(user.getId())));
+        verify(tokenService).issueTokens(any(User.class));
+    }
+
+    @Test
+    @DisplayName("non-blocking 카카오 로그인 성공 - 회원 저장은 DB 스케줄러에서 실행")
+    void processKakaoLoginReactive_Success() throws Exception {
+        // given
+        String codeVerifier = "test-verifier";
+        String codeChallenge = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                MessageDigest.getInstance("SHA-256").digest(codeVerifier.getBytes(StandardCharsets.UTF_8)));
+        KakaoTokenResponse tokenResponse = new KakaoTokenResponse(
+                "kakao-access-token", "Bearer", "kakao-refresh-token", 3600L, 86400L, null, null);
+        KakaoUserInfo userInfo = new KakaoUserInfo(123456789L, new KakaoUserInfo.KakaoAccount("test@example.com", null, null));
+        LoginResponse expectedResponse = LoginResponse.builder().accessToken("jwt-access-token").build();
+        String[] saveThread = new String[1];
+
+        given(stateManager.validateAndConsumeStateReactive("test-state")).willReturn(Mono.just(codeChallenge));
+        given(kakaoOAuthService.exchangeKakaoTokenReactive("auth-code", codeVerifier, "http://localhost:3000/callback"))
+                .willReturn(Mono.just(tokenResponse));
+        given(kakaoOAuthService.getUserInfoReactive("kakao-access-token")).willReturn(Mono.just(userInfo));
+        given(userRepository.upsert("kakao", "123456789", "test@example.com", null)).willAnswer(invocation -> {
+            saveThread[0] = Thread.currentThread().getName();
+            return new UpsertResult(UUID.randomUUID(), Status.CREATED, "test@example.com", null);
+        });
+        given(tokenService.issueTokens(any(User.class))).willReturn(expectedResponse);
+
+        // when
+        LoginResponse result = authFacadeService.processKakaoLoginReactive(
+                "auth-code", "test-state", codeVerifier, "http://localhost:3000/callback").block();
+
+        // then
+        assertThat(result).isSameAs(expectedResponse);
+        assertThat(saveThread[0]).startsWith("boundedElastic");
+        verify(kakaoOAuthService, never()).exchangeKakaoToken(anyString(), anyString(), anyString());
+        assertThat(meterRegistry.get("auth.flow")
+                .tags("flow", "login", "result", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("non-blocking 카카오 로그인 실패 - PKCE 검증 실패 시 카카오를 호출하지 않음")
+    void processKakaoLoginReactive_InvalidPKCE_ThrowsException() {
+        // given
+        given(stateManager.validateAndConsumeStateReactive("test-state")).willReturn(Mono.just("different-challenge"));
+
+        // when & then
+        assertThatThrownBy(() -> authFacadeService.processKakaoLoginReactive(
+                "auth-code", "test-state", "wrong-verifier", "http://localhost:3000/callback").block())
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.INVALID_CODE_VERIFIER);
+        verify(stateManager, never()).markStateUsed(anyString());
+        verify(kakaoOAuthService, never()).exchangeKakaoTokenReactive(anyString(), anyString(), anyString());
     }
 
     @Test
@@ -129,13 +213,19 @@ class AuthFacadeServiceTest {
 
         // when & then
         assertThatThrownBy(() ->
-                authFacadeService.processKakaoLogin(code, invalidState, codeVerifier, redirectUri, response)
+                authFacadeService.processKakaoLogin(code, invalidState, codeVerifier, redirectUri)
         )
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.INVALID_STATE);
 
         verify(stateManager).validateAndConsumeState(invalidState);
         verify(kakaoOAuthService, never()).exchangeKakaoToken(anyString(), anyString(), anyString());
+        assertThat(meterRegistry.get("auth.stage")
+                .tags("stage", "state", "result", "error", "error_code", OAuthErrorCode.INVALID_STATE.getCode())
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.flow")
+                .tags("flow", "login", "result", "error")
+                .timer().count()).isEqualTo(1);
     }
 
     @Test
@@ -153,12 +243,13 @@ class AuthFacadeServiceTest {
 
         // when & then
         assertThatThrownBy(() ->
-                authFacadeService.processKakaoLogin(code, state, wrongCodeVerifier, redirectUri, response)
+                authFacadeService.processKakaoLogin(code, state, wrongCodeVerifier, redirectUri)
         )
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.INVALID_CODE_VERIFIER);
 
         verify(stateManager).validateAndConsumeState(state);
+        verify(stateManager, never()).markStateUsed(anyString());
         verify(kakaoOAuthService, never()).exchangeKakaoToken(anyString(), anyString(), anyString());
     }
 
@@ -181,6 +272,7 @@ class AuthFacadeServiceTest {
                 "kakao-refresh-token",
                 3600L,
                 86400L,
+                null,
                 null
         );
 
@@ -189,7 +281,7 @@ class AuthFacadeServiceTest {
 
         // when & then
         assertThatThrownBy(() ->
-                authFacadeService.processKakaoLogin(code, state, codeVerifier, redirectUri, response)
+                authFacadeService.processKakaoLogin(code, state, codeVerifier, redirectUri)
         )
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.KAKAO_TOKEN_EXCHANGE_FAILED);
@@ -216,24 +308,19 @@ class AuthFacadeServiceTest {
                 "kakao-refresh-token",
                 3600L,
                 86400L,
+                null,
                 null
         );
 
-        Map<String, Object> userInfo = Map.of(
-                "id", 123456789L,
-                "kakao_account", Map.of(
-                        "email", "test@example.com",
-                        "profile", Map.of("nickname", "업데이트된닉네임")
+        KakaoUserInfo userInfo = new KakaoUserInfo(
+                123456789L,
+                new KakaoUserInfo.KakaoAccount(
+                        "test@example.com",
+                        new KakaoUserInfo.Profile("업데이트된닉네임"),
+                        null
                 )
         );
 
-        User existingUser = User.builder()
-                .provider("kakao")
-                .providerId("123456789")
-                .email("test@example.com")
-                .name("기존닉네임")
-                .build();
-
         LoginResponse expectedResponse = LoginResponse.builder()
                 .accessToken("jwt-access-token")
                 .userId(UUID.randomUUID())
@@ -245,17 +332,66 @@ class AuthFacadeServiceTest {
         given(stateManager.validateAndConsumeState(state)).willReturn(expectedCodeChallenge);
         given(kakaoOAuthService.exchangeKakaoToken(code, codeVerifier, redirectUri)).willReturn(tokenResponse);
         given(kakaoOAuthService.getUserInfo("kakao-access-token")).willReturn(userInfo);
-        given(userRepository.findByProviderAndProviderId("kakao", "123456789")).willReturn(Optional.of(existingUser));
-        given(userRepository.save(any(User.class))).willReturn(existingUser);
-        given(tokenService.issueTokens(any(User.class), eq(response))).willReturn(expectedResponse);
+        given(userRepository.upsert("kakao", "123456789", "test@example.com", "업데이트된닉네임"))
+                .willReturn(new UpsertResult(UUID.randomUUID(), Status.UPDATED, "test@example.com", "업데이트된닉네임"));
+        given(tokenService.issueTokens(any(User.class))).willReturn(expectedResponse);
 
         // when
-        LoginResponse result = authFacadeService.processKakaoLogin(code, state, codeVerifier, redirectUri, response);
+        LoginResponse result = authFacadeService.processKakaoLogin(code, state, codeVerifier, redirectUri);
 
         // then
         assertThat(result).isNotNull();
-        verify(userRepository).save(argThat(user ->
+        verify(userRepository).upsert("kakao", "123456789", "test@example.com", "업데이트된닉네임");
+        verify(userCacheService).put(argThat(user ->
                 user.getName().equals("업데이트된닉네임")
         ));
     }
+
+    @Test
+    @DisplayName("로그아웃 - 카카오 로그아웃은 호출하지 않고 outbox 에 기록")
+    void logout_KakaoUser_EnqueuesProviderLogout() {
+        // given
+        UUID userId = UUID.randomUUID();
+        given(tokenService.revokeRefreshToken("refresh-token", response)).willReturn(userId);
+        given(userCacheService.findById(userId))
+                .willReturn(Optional.of(new UserSnapshot(userId, "kakao", "123456789", "test@example.com", "tester")));
+
+        // when
+        authFacadeService.logout("refresh-token", response);
+
+        // then
+        then(accessTokenCache).should().invalidateUser(userId);
+        then(logoutOutbox).should().enqueue("kakao", "123456789");
+        then(kakaoOAuthService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("카카오 로그인 성공 - id_token 검증 시 사용자 정보 API 를 호출하지 않음")
+    void processKakaoLogin_IdToken_SkipsUserInfo() throws Exception {
+        // given
+        String codeVerifier = "test-verifier";
+        String codeChallenge = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                MessageDigest.getInstance("SHA-256").digest(codeVerifier.getBytes(StandardCharsets.UTF_8)));
+        KakaoTokenResponse tokenResponse = new KakaoTokenResponse(
+                "kakao-access-token", "Bearer", "kakao-refresh-token", 3600L, 86400L, "openid", "kakao-id-token");
+        LoginResponse expectedResponse = LoginResponse.builder().accessToken("jwt-access-token").build();
+
+        given(stateManager.validateAndConsumeState("test-state")).willReturn(codeChallenge);
+        given(kakaoOAuthService.exchangeKakaoToken("auth-code", codeVerifier, "http://localhost:3000/callback"))
+                .willReturn(tokenResponse);
+        given(kakaoIdTokenVerifier.verify("kakao-id-token"))
+                .willReturn(Optional.of(new KakaoUserProfile("123456789", "test@example.com", "테스트유저")));
+        given(userRepository.upsert("kakao", "123456789", "test@example.com", "테스트유저"))
+                .willReturn(new UpsertResult(UUID.randomUUID(), Status.UNCHANGED, "test@example.com", "테스트유저"));
+        given(tokenService.issueTokens(any(User.class))).willReturn(expectedResponse);
+
+        // when
+        LoginResponse result = authFacadeService.processKakaoLogin(
+                "auth-code", "test-state", codeVerifier, "http://localhost:3000/callback");
+
+        // then
+        assertThat(result).isEqualTo(expectedResponse);
+        then(kakaoOAuthService).should(never()).getUserInfo(anyString());
+        then(userCacheService).should(never()).put(any());
+    }
 }
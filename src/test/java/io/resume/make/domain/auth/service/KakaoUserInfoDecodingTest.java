@@ -0,0 +1,54 @@
+package io.resume.make.domain.auth.service;
+
+import io.resume.make.domain.auth.dto.KakaoUserInfo;
+import io.resume.make.domain.auth.exception.OAuthErrorCode;
+import io.resume.make.global.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("카카오 사용자 정보 디코딩 단위 테스트")
+class KakaoUserInfoDecodingTest {
+
+    @Test
+    @DisplayName("필요한 필드만 읽고 모르는 필드는 건너뜀")
+    void readUserInfo_SkipsUnknownFields() {
+        // given
+        DataBuffer body = buffer("""
+                {"id":123456789,"connected_at":"2024-03-01T09:12:44Z",
+                 "properties":{"nickname":"옛닉네임","profile_image":"https://k.kakaocdn.net/p.jpg"},
+                 "kakao_account":{"has_email":true,"email":"test@example.com","age_range":"20~29",
+                   "profile":{"nickname":"테스트유저","is_default_image":false}},
+                 "for_partner":{"uuid":"abc"}}
+                """);
+
+        // when
+        KakaoUserInfo userInfo = KakaoOAuthService.readUserInfo(body);
+
+        // then
+        assertThat(userInfo.id()).isEqualTo(123456789L);
+        assertThat(userInfo.email()).isEqualTo("test@example.com");
+        assertThat(userInfo.nickname()).isEqualTo("테스트유저");
+    }
+
+    @Test
+    @DisplayName("profile 이 없으면 kakao_account.nickname, 형식이 깨지면 KAKAO_USER_INFO_FAILED")
+    void readUserInfo_LegacyNicknameAndMalformed() {
+        KakaoUserInfo legacy = KakaoOAuthService.readUserInfo(buffer("{\"id\":1,\"kakao_account\":{\"nickname\":\"닉네임\"}}"));
+
+        assertThat(legacy.nickname()).isEqualTo("닉네임");
+        assertThat(legacy.email()).isNull();
+        assertThatThrownBy(() -> KakaoOAuthService.readUserInfo(buffer("{\"id\":\"not-a-number\"}")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.KAKAO_USER_INFO_FAILED);
+    }
+
+    private static DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,165 @@
+package io.resume.make.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.resume.make.domain.auth.exception.OAuthErrorCode;
+import io.resume.make.global.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SignedStateCodec 단위 테스트")
+class SignedStateCodecTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SignedStateCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = newCodec();
+    }
+
+    @Test
+    @DisplayName("서명된 state 검증 성공 - 담긴 codeChallenge 반환")
+    void verify_Success() {
+        // given
+        String state = codec.issue("valid-code-challenge");
+
+        // when
+        String codeChallenge = codec.verify(state);
+
+        // then
+        assertThat(codeChallenge).isEqualTo("valid-code-challenge");
+        assertThat(codec.issue("valid-code-challenge")).isNotEqualTo(state);
+    }
+
+    @Test
+    @DisplayName("한번 사용한 state 는 재사용 불가")
+    void verify_Replay_ThrowsException() {
+        // given
+        String state = codec.issue("test-challenge");
+        codec.verify(state);
+        codec.markUsed(state);
+
+        // when & then
+        assertThatThrownBy(() -> codec.verify(state))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.INVALID_STATE);
+    }
+
+    @Test
+    @DisplayName("변조되었거나 다른 키로 서명된 state 는 거부")
+    void verify_Tampered_ThrowsException() {
+        // given
+        String state = codec.issue("test-challenge");
+        String tampered = (state.charAt(0) == 'A' ? 'B' : 'A') + state.substring(1);
+        SignedStateCodec other = newCodec();
+        ReflectionTestUtils.setField(other, "secret", "another-secret-key-for-oauth-state-at-least-32");
+        other.init();
+
+        // when & then
+        assertThatThrownBy(() -> codec.verify(tampered))
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.INVALID_STATE);
+        assertThatThrownBy(() -> codec.verify("non-existent-state"))
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.INVALID_STATE);
+        assertThatThrownBy(() -> other.verify(state))
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.INVALID_STATE);
+    }
+
+    @Test
+    @DisplayName("만료된 state 는 거부")
+    void verify_Expired_ThrowsException() {
+        // given
+        ReflectionTestUtils.setField(codec, "ttl", Duration.ofSeconds(-1));
+        String state = codec.issue("test-challenge");
+
+        // when & then
+        assertThatThrownBy(() -> codec.verify(state))
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.INVALID_STATE);
+    }
+
+    @Test
+    @DisplayName("PKCE 를 통과하지 못한 로그인은 seen-set 을 채우지 않아 정상 로그인이 막히지 않음")
+    void login_BogusStatesDoNotFillSeenSet() {
+        // given
+        ReflectionTestUtils.setField(codec, "seenSetCapacity", 10L);
+        for (int i = 0; i < 100; i++) {
+            String bogus = codec.issue(challenge("attacker-verifier-" + i));
+            assertThatThrownBy(() -> login(bogus, "wrong-verifier"))
+                    .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.INVALID_CODE_VERIFIER);
+        }
+
+        // when
+        String state = codec.issue(challenge("user-verifier"));
+        login(state, "user-verifier");
+
+        // then
+        assertThat(seenSize()).isEqualTo(1);
+        assertThatThrownBy(() -> login(state, "user-verifier"))
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.INVALID_STATE);
+    }
+
+    @Test
+    @DisplayName("seen-set 이 가득 차면 기록하지 않고 로그인은 계속, 기록된 nonce 는 밀려나지 않음")
+    void markUsed_SeenSetFull_LoginContinues() {
+        // given
+        ReflectionTestUtils.setField(codec, "seenSetCapacity", 2L);
+        String first = codec.issue(challenge("first"));
+        login(first, "first");
+        login(codec.issue(challenge("second")), "second");
+
+        // when
+        login(codec.issue(challenge("third")), "third");
+
+        // then
+        assertThat(meterRegistry.counter(StateManager.VALIDATIONS, "result", "untracked").count()).isEqualTo(1);
+        assertThat(seenSize()).isEqualTo(2);
+        assertThatThrownBy(() -> login(first, "first"))
+                .hasFieldOrPropertyWithValue("errorCode", OAuthErrorCode.INVALID_STATE);
+    }
+
+    /**
+     * AuthFacadeService 와 같은 순서: state 확인 → PKCE 확인 → 사용 기록
+     */
+    private void login(String state, String codeVerifier) {
+        String codeChallenge = codec.verify(state);
+        if (!AuthFacadeService.verifyPkce(codeVerifier, codeChallenge)) {
+            throw new BusinessException(OAuthErrorCode.INVALID_CODE_VERIFIER);
+        }
+        codec.markUsed(state);
+    }
+
+    private long seenSize() {
+        Cache<?, ?> seen = (Cache<?, ?>) ReflectionTestUtils.getField(codec, "seen");
+        seen.cleanUp();
+        return seen.estimatedSize();
+    }
+
+    private static String challenge(String codeVerifier) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(codeVerifier.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private SignedStateCodec newCodec() {
+        SignedStateCodec codec = new SignedStateCodec(meterRegistry);
+        ReflectionTestUtils.setField(codec, "secret", "test-secret-key-for-jwt-token-minimum-32-characters-long");
+        ReflectionTestUtils.setField(codec, "ttl", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(codec, "seenSetCapacity", 1000L);
+        codec.init();
+        return codec;
+    }
+}
@@ -1,13 +1,12 @@
 package io.resume.make.domain.auth.service;
 
 import io.resume.make.domain.auth.exception.OAuthErrorCode;
+import io.resume.make.domain.auth.state.OAuthStateStore;
 import io.resume.make.global.exception.BusinessException;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import static org.assertj.core.api.Assertions.*;
@@ -21,16 +20,10 @@ class StateManagerTest {
     private StateManager stateManager;
 
     @Autowired
-    private RedisTemplate<String, String> redisTemplate;
-
-    @AfterEach
-    void tearDown() {
-        // Redis 데이터 정리
-        redisTemplate.getConnectionFactory().getConnection().flushDb();
-    }
+    private OAuthStateStore stateStore;
 
     @Test
-    @DisplayName("State 생성 및 Redis 저장 성공")
+    @DisplayName("State 생성 및 저장 성공")
     void generateAndStoreState_Success() {
         // given
         String codeChallenge = "test-code-challenge-123";
@@ -42,10 +35,8 @@ class StateManagerTest {
         assertThat(state).isNotNull();
         assertThat(state).isNotEmpty();
 
-        // Redis에 저장되었는지 확인
-        String key = "oauth:state:" + state;
-        String storedChallenge = redisTemplate.opsForValue().get(key);
-        assertThat(storedChallenge).isEqualTo(codeChallenge);
+        // 저장소에 저장되었는지 확인
+        assertThat(stateStore.consume(state)).contains(codeChallenge);
     }
 
     @Test
@@ -62,9 +53,7 @@ class StateManagerTest {
         assertThat(retrievedChallenge).isEqualTo(codeChallenge);
 
         // State는 소비되어 삭제되어야 함
-        String key = "oauth:state:" + state;
-        String deletedValue = redisTemplate.opsForValue().get(key);
-        assertThat(deletedValue).isNull();
+        assertThat(stateStore.consume(state)).isEmpty();
     }
 
     @Test
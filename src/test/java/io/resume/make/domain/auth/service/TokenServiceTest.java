@@ -0,0 +1,161 @@
+package io.resume.make.domain.auth.service;
+
+import io.resume.make.domain.auth.blacklist.BlacklistStore;
+import io.resume.make.domain.auth.dto.LoginResponse;
+import io.resume.make.domain.auth.jwt.JwtTokenProvider;
+import io.resume.make.domain.auth.jwt.VerifiedToken;
+import io.resume.make.domain.auth.service.RefreshTokenFamilyStore.Outcome;
+import io.resume.make.domain.auth.service.RefreshTokenFamilyStore.Rotation;
+import io.resume.make.domain.user.dto.UserSnapshot;
+import io.resume.make.domain.user.entity.User;
+import io.resume.make.domain.user.service.UserCacheService;
+import io.resume.make.global.exception.BusinessException;
+import io.resume.make.global.response.GlobalErrorCode;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenService 단위 테스트")
+class TokenServiceTest {
+
+    @Mock
+    private CookieManager cookieManager;
+
+    @Mock
+    private UserCacheService userCacheService;
+
+    @Mock
+    private BlacklistStore blacklistStore;
+
+    @Mock
+    private RefreshTokenFamilyStore refreshTokenFamilyStore;
+
+    @Mock
+    private HttpServletResponse response;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenService tokenService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secret", "test-secret-key-for-jwt-token-minimum-32-characters-long");
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpirationTime", 3600000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenExpirationTime", 1209600000L);
+        jwtTokenProvider.init();
+        tokenService = new TokenService(cookieManager, jwtTokenProvider, userCacheService, blacklistStore, refreshTokenFamilyStore);
+    }
+
+    @Test
+    @DisplayName("로그인 토큰 발급은 서블릿 응답을 쓰지 않고, 쿠키 헤더는 refresh 토큰 TTL 로 따로 만든다")
+    void issueTokens_DoesNotWriteResponse() {
+        // given
+        User user = User.builder().provider("kakao").providerId("1").email("test@example.com").name("tester").build();
+        user.setId(userId);
+        given(cookieManager.refreshTokenHeaders(anyString(), anyLong())).willReturn(new HttpHeaders());
+
+        // when
+        LoginResponse issued = tokenService.issueTokens(user);
+        tokenService.refreshTokenCookieHeaders(issued.refreshToken());
+
+        // then
+        assertThat(issued.userId()).isEqualTo(userId);
+        then(cookieManager).should(never()).addCookie(any(), any());
+        then(cookieManager).should().refreshTokenHeaders(issued.refreshToken(), 1209600L);
+    }
+
+    @Test
+    @DisplayName("로그인 시 family 를 만들고 첫 refresh 토큰을 현재 토큰으로 기록")
+    void issueTokens_Family_StartsFamily() {
+        // given
+        User user = User.builder().provider("kakao").providerId("1").email("test@example.com").name("tester").build();
+        user.setId(userId);
+        given(refreshTokenFamilyStore.isEnabled()).willReturn(true);
+
+        // when
+        LoginResponse issued = tokenService.issueTokens(user);
+
+        // then
+        VerifiedToken refreshToken = jwtTokenProvider.verify(issued.refreshToken());
+        then(refreshTokenFamilyStore).should()
+                .start(refreshToken.familyId(), refreshToken.tokenId(), jwtTokenProvider.getRefreshTokenTtl());
+    }
+
+    @Test
+    @DisplayName("family 회전 성공 - 같은 family 의 새 refresh 토큰 발급")
+    void refreshTokens_Family_Rotated() {
+        // given
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        String refreshToken = jwtTokenProvider.generateRefreshToken(userId, "test@example.com", familyId, tokenId);
+        given(userCacheService.findById(userId)).willReturn(Optional.of(snapshot()));
+        given(refreshTokenFamilyStore.isEnabled()).willReturn(true);
+        given(refreshTokenFamilyStore.rotate(eq(familyId), eq(tokenId), anyString(), anyString(), anyString(), any()))
+                .willAnswer(invocation -> new Rotation(Outcome.ROTATED, invocation.getArgument(3), invocation.getArgument(4)));
+
+        // when
+        LoginResponse result = tokenService.refreshTokens(refreshToken, response);
+
+        // then
+        VerifiedToken successor = jwtTokenProvider.verify(result.refreshToken());
+        assertThat(successor.familyId()).isEqualTo(familyId);
+        assertThat(successor.tokenId()).isNotEqualTo(tokenId);
+        then(blacklistStore).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("grace 기간 안의 중복 refresh - 먼저 발급한 쌍을 그대로 반환")
+    void refreshTokens_ConcurrentDuplicate_ReturnsSamePair() {
+        // given
+        String refreshToken = jwtTokenProvider.generateRefreshToken(userId, "test@example.com");
+        given(userCacheService.findById(userId)).willReturn(Optional.of(snapshot()));
+        given(refreshTokenFamilyStore.isEnabled()).willReturn(true);
+        given(refreshTokenFamilyStore.rotate(anyString(), anyString(), anyString(), anyString(), anyString(), any()))
+                .willReturn(new Rotation(Outcome.GRACE, "first-access", "first-refresh"));
+
+        // when
+        LoginResponse result = tokenService.refreshTokens(refreshToken, response);
+
+        // then
+        assertThat(result.accessToken()).isEqualTo("first-access");
+        assertThat(result.refreshToken()).isEqualTo("first-refresh");
+        then(cookieManager).should().createRefreshTokenCookie(eq("first-refresh"), anyLong());
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰 재사용 - BLACKLISTED_TOKEN")
+    void refreshTokens_Reused_Blacklisted() {
+        // given
+        String refreshToken = jwtTokenProvider.generateRefreshToken(userId, "test@example.com");
+        given(userCacheService.findById(userId)).willReturn(Optional.of(snapshot()));
+        given(refreshTokenFamilyStore.isEnabled()).willReturn(true);
+        given(refreshTokenFamilyStore.rotate(anyString(), anyString(), anyString(), anyString(), anyString(), any()))
+                .willReturn(new Rotation(Outcome.REUSED, null, null));
+
+        // when & then
+        assertThatThrownBy(() -> tokenService.refreshTokens(refreshToken, response))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.BLACKLISTED_TOKEN);
+        then(cookieManager).should(never()).addCookie(any(), any());
+    }
+
+    private UserSnapshot snapshot() {
+        return new UserSnapshot(userId, "kakao", "12345", "test@example.com", "tester");
+    }
+}
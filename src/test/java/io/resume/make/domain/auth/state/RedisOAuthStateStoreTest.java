@@ -0,0 +1,57 @@
+package io.resume.make.domain.auth.state;
+
+import io.resume.make.global.exception.BusinessException;
+import io.resume.make.global.response.GlobalErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisOAuthStateStore 단위 테스트")
+class RedisOAuthStateStoreTest {
+
+    @InjectMocks
+    private RedisOAuthStateStore stateStore;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Test
+    @DisplayName("소비는 GETDEL 한 번으로 조회와 삭제를 함께 처리")
+    void consume_UsesGetAndDelete() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.getAndDelete("oauth:state:state-1")).willReturn("challenge", (String) null);
+
+        // when & then
+        assertThat(stateStore.consume("state-1")).contains("challenge");
+        assertThat(stateStore.consume("state-1")).isEmpty();
+        then(valueOperations).should(never()).get(anyString());
+        then(redisTemplate).should(never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - SERVICE_UNAVAILABLE")
+    void consume_RedisDown_ServiceUnavailable() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.getAndDelete(anyString())).willThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThatThrownBy(() -> stateStore.consume("state-1"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.SERVICE_UNAVAILABLE);
+    }
+}
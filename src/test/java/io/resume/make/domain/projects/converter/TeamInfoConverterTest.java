@@ -0,0 +1,29 @@
+package io.resume.make.domain.projects.converter;
+
+import io.resume.make.domain.projects.entity.vo.TeamInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TeamInfoConverter 단위 테스트")
+class TeamInfoConverterTest {
+
+    private final TeamInfoConverter teamInfoConverter = new TeamInfoConverter();
+
+    @Test
+    @DisplayName("TeamInfo 는 예전 클래스와 같은 키로 저장되고, 모르는 필드가 있는 행도 읽힘")
+    void teamInfo_RoundTripAndLegacyRow() {
+        // given
+        TeamInfo teamInfo = new TeamInfo("Backend", "4", "API 서버 담당");
+
+        // when
+        String json = teamInfoConverter.convertToDatabaseColumn(teamInfo);
+
+        // then
+        assertThat(json).isEqualTo("{\"role\":\"Backend\",\"members\":\"4\",\"description\":\"API 서버 담당\"}");
+        assertThat(teamInfoConverter.convertToEntityAttribute(json)).isEqualTo(teamInfo);
+        assertThat(teamInfoConverter.convertToEntityAttribute("{\"role\":\"Backend\",\"leader\":true}"))
+                .isEqualTo(new TeamInfo("Backend", null, null));
+    }
+}
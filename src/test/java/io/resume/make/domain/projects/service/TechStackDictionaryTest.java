@@ -0,0 +1,109 @@
+package io.resume.make.domain.projects.service;
+
+import io.resume.make.domain.projects.entity.Project;
+import io.resume.make.domain.projects.repository.ProjectRepository;
+import io.resume.make.domain.projects.repository.TechStackRepository;
+import io.resume.make.global.exception.BusinessException;
+import io.resume.make.global.response.GlobalErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("TechStackDictionary 통합 테스트")
+class TechStackDictionaryTest {
+
+    @Autowired
+    private TechStackDictionary techStackDictionary;
+
+    @Autowired
+    private TechStackRepository techStackRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @AfterEach
+    void tearDown() {
+        // 사전은 추가만 되므로 tech_stack 행은 지우지 않는다
+        projectRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("이름은 한 번만 등록되고, 공백/대소문자 차이와 중복은 같은 ID")
+    void encode_RegistersOnceAndNormalizes() {
+        // when
+        List<Integer> first = techStackDictionary.encode(Arrays.asList("Spring", "React", " spring ", "", null));
+        List<Integer> second = techStackDictionary.encode(List.of("SPRING", "React"));
+
+        // then
+        assertThat(first).hasSize(2);
+        assertThat(second).isEqualTo(first);
+        assertThat(techStackRepository.findByName("Spring")).isPresent();
+        assertThat(techStackRepository.findByName("React")).isPresent();
+        assertThat(techStackDictionary.decode(first)).containsExactly("Spring", "React");
+    }
+
+    @Test
+    @DisplayName("프로젝트에는 ID 로 저장되고 기술 스택 ID 로 걸러낼 수 있음")
+    void project_StoresIdsAndFiltersByTechStack() {
+        // given
+        List<Integer> backend = techStackDictionary.encode(List.of("Java", "MySQL"));
+        List<Integer> frontend = techStackDictionary.encode(List.of("TypeScript"));
+        UUID userId = UUID.randomUUID();
+        projectRepository.save(Project.builder().user(userId).projectName("api").techStackIds(backend).build());
+        projectRepository.save(Project.builder().user(userId).projectName("web").techStackIds(frontend).build());
+
+        // when
+        int mysql = techStackDictionary.find("mysql").orElseThrow();
+        List<Project> projects = projectRepository.findAllByTechStackId(mysql);
+
+        // then
+        assertThat(projects).hasSize(1);
+        assertThat(techStackDictionary.decode(projects.get(0).getTechStackIds())).containsExactly("Java", "MySQL");
+        assertThat(techStackDictionary.find("Kotlin")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("등록할 때 사전에 저장된 표기도 기억해 decode 에서 다시 조회하지 않음")
+    void encode_RemembersStoredName() {
+        // when
+        int id = techStackDictionary.encode(List.of(" Kubernetes ")).get(0);
+
+        // then
+        @SuppressWarnings("unchecked")
+        Map<Integer, String> namesById = (Map<Integer, String>) ReflectionTestUtils.getField(techStackDictionary, "namesById");
+        assertThat(namesById).containsEntry(id, "Kubernetes");
+    }
+
+    @Test
+    @DisplayName("컬럼 길이를 넘는 이름은 등록하지 않고 INVALID_INPUT")
+    void encode_TooLongName_InvalidInput() {
+        // given
+        String name = "x".repeat(TechStackDictionary.MAX_NAME_LENGTH + 1);
+
+        // when & then
+        assertThatThrownBy(() -> techStackDictionary.encode(List.of(name)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.INVALID_INPUT);
+        assertThat(techStackRepository.findByName(name)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사전에 없는 ID 는 IllegalStateException")
+    void decode_UnknownId_Throws() {
+        assertThatThrownBy(() -> techStackDictionary.decode(List.of(Integer.MAX_VALUE)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package io.resume.make.domain.user.repository;
+
+import io.resume.make.domain.user.entity.User;
+import io.resume.make.domain.user.repository.UserUpsertRepository.Status;
+import io.resume.make.domain.user.repository.UserUpsertRepository.UpsertResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("UserUpsertRepository 통합 테스트")
+class UserUpsertRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("신규 생성 → 변경 없음 → 갱신 순으로 같은 회원 ID 유지")
+    void upsert_CreateThenUnchangedThenUpdate() {
+        // when
+        UpsertResult created = userRepository.upsert("kakao", "1001", "a@example.com", "before");
+        UpsertResult unchanged = userRepository.upsert("kakao", "1001", "a@example.com", "before");
+        UpsertResult updated = userRepository.upsert("kakao", "1001", "b@example.com", "after");
+
+        // then
+        assertThat(created.status()).isEqualTo(Status.CREATED);
+        assertThat(unchanged.status()).isEqualTo(Status.UNCHANGED);
+        assertThat(updated.status()).isEqualTo(Status.UPDATED);
+        assertThat(unchanged.id()).isEqualTo(created.id());
+        assertThat(updated.id()).isEqualTo(created.id());
+
+        User user = userRepository.findById(created.id()).orElseThrow();
+        assertThat(user.getEmail()).isEqualTo("b@example.com");
+        assertThat(user.getName()).isEqualTo("after");
+    }
+
+    @Test
+    @DisplayName("null 로 넘긴 값은 저장된 값을 유지")
+    void upsert_MissingClaims_KeepStoredValues() {
+        // given
+        UpsertResult created = userRepository.upsert("kakao", "3003", "a@example.com", "before");
+
+        // when
+        UpsertResult noClaims = userRepository.upsert("kakao", "3003", null, null);
+        UpsertResult nameOnly = userRepository.upsert("kakao", "3003", null, "after");
+
+        // then
+        assertThat(noClaims.status()).isEqualTo(Status.UNCHANGED);
+        assertThat(noClaims.email()).isEqualTo("a@example.com");
+        assertThat(nameOnly.status()).isEqualTo(Status.UPDATED);
+        assertThat(nameOnly.email()).isEqualTo("a@example.com");
+        User user = userRepository.findById(created.id()).orElseThrow();
+        assertThat(user.getEmail()).isEqualTo("a@example.com");
+        assertThat(user.getName()).isEqualTo("after");
+    }
+
+    @Test
+    @DisplayName("같은 신규 회원 동시 로그인 - 한 행만 생성되고 모두 같은 ID, CREATED 는 하나")
+    void upsert_ConcurrentFirstLogin_SingleRow() throws Exception {
+        // given
+        int logins = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(logins);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<UpsertResult>> results = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < logins; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return userRepository.upsert("kakao", "2002", "c@example.com", "same");
+                }));
+            }
+            start.countDown();
+
+            // then
+            List<UUID> ids = new ArrayList<>();
+            int created = 0;
+            for (Future<UpsertResult> result : results) {
+                ids.add(result.get().id());
+                created += result.get().status() == Status.CREATED ? 1 : 0;
+            }
+            assertThat(ids).containsOnly(ids.get(0));
+            assertThat(created).isEqualTo(1);
+            assertThat(userRepository.findByProviderAndProviderId("kakao", "2002")).isPresent();
+            assertThat(userRepository.count()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
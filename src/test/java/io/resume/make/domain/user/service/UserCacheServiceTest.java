@@ -0,0 +1,118 @@
+package io.resume.make.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.resume.make.domain.user.dto.UserSnapshot;
+import io.resume.make.domain.user.entity.User;
+import io.resume.make.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserCacheService 단위 테스트")
+class UserCacheServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UserCacheService userCacheService;
+
+    @BeforeEach
+    void setUp() {
+        userCacheService = new UserCacheService(userRepository, redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(userCacheService, "l1MaximumSize", 100L);
+        ReflectionTestUtils.setField(userCacheService, "l1Ttl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(userCacheService, "l2Enabled", true);
+        ReflectionTestUtils.setField(userCacheService, "l2Ttl", Duration.ofMinutes(30));
+        userCacheService.init();
+    }
+
+    @Test
+    @DisplayName("L1 적중 시 Redis/DB 를 조회하지 않음")
+    void findById_L1Hit_SkipsRedisAndDb() {
+        // given
+        UUID userId = UUID.randomUUID();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("user:snapshot:" + userId)).willReturn(null);
+        given(userRepository.findById(userId)).willReturn(Optional.of(user(userId)));
+
+        // when
+        userCacheService.findById(userId);
+        Optional<UserSnapshot> second = userCacheService.findById(userId);
+
+        // then
+        assertThat(second).map(UserSnapshot::email).contains("test@example.com");
+        verify(userRepository, times(1)).findById(userId);
+        verify(valueOperations, times(1)).get(anyString());
+        verify(valueOperations).set(eq("user:snapshot:" + userId), anyString(), eq(Duration.ofMinutes(30)));
+        assertThat(userCacheService.l1Stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("L2 적중 시 DB 를 조회하지 않음")
+    void findById_L2Hit_SkipsDb() throws Exception {
+        // given
+        UUID userId = UUID.randomUUID();
+        String json = objectMapper.writeValueAsString(UserSnapshot.from(user(userId)));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("user:snapshot:" + userId)).willReturn(json);
+
+        // when
+        Optional<UserSnapshot> result = userCacheService.findById(userId);
+
+        // then
+        assertThat(result).map(UserSnapshot::id).contains(userId);
+        verify(userRepository, never()).findById(any());
+        assertThat(userCacheService.l2Hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 로 조회")
+    void findById_RedisDown_FallsBackToDb() {
+        // given
+        UUID userId = UUID.randomUUID();
+        given(redisTemplate.opsForValue()).willThrow(new RedisConnectionFailureException("down"));
+        given(userRepository.findById(userId)).willReturn(Optional.of(user(userId)));
+
+        // when
+        Optional<UserSnapshot> result = userCacheService.findById(userId);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(userCacheService.l2Errors()).isEqualTo(2);
+    }
+
+    private User user(UUID userId) {
+        User user = User.builder()
+                .provider("kakao")
+                .providerId("123456")
+                .email("test@example.com")
+                .name("테스트유저")
+                .build();
+        user.setId(userId);
+        return user;
+    }
+}